@@ -0,0 +1,39 @@
+package com.radek.databasewithcsv.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private int maxSize = 10000;
+    private Duration timeToLive = Duration.ofMinutes(10);
+    private Duration countReconciliationInterval = Duration.ofMinutes(1);
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public Duration getCountReconciliationInterval() {
+        return countReconciliationInterval;
+    }
+
+    public void setCountReconciliationInterval(Duration countReconciliationInterval) {
+        this.countReconciliationInterval = countReconciliationInterval;
+    }
+}
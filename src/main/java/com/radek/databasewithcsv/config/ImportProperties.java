@@ -0,0 +1,130 @@
+package com.radek.databasewithcsv.config;
+
+import com.radek.databasewithcsv.csvhelper.CsvParserType;
+import com.radek.databasewithcsv.model.ImportMode;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    private int chunkSize = 1000;
+    private int batchSize = 50;
+    private int asyncPoolSize = 2;
+    private int asyncQueueCapacity = 10;
+    private int maxRetainedJobs = 100;
+    private boolean pipelineEnabled;
+    private int validatorThreads = Runtime.getRuntime().availableProcessors();
+    private int pipelineQueueCapacity = 16;
+    private CsvParserType parser = CsvParserType.OPENCSV;
+    private ImportMode mode = ImportMode.INSERT;
+    private boolean checkpointsEnabled;
+    private String serverFilesDirectory;
+    private int mappedSegments = Runtime.getRuntime().availableProcessors();
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getAsyncPoolSize() {
+        return asyncPoolSize;
+    }
+
+    public void setAsyncPoolSize(int asyncPoolSize) {
+        this.asyncPoolSize = asyncPoolSize;
+    }
+
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    public int getMaxRetainedJobs() {
+        return maxRetainedJobs;
+    }
+
+    public void setMaxRetainedJobs(int maxRetainedJobs) {
+        this.maxRetainedJobs = maxRetainedJobs;
+    }
+
+    public boolean isPipelineEnabled() {
+        return pipelineEnabled;
+    }
+
+    public void setPipelineEnabled(boolean pipelineEnabled) {
+        this.pipelineEnabled = pipelineEnabled;
+    }
+
+    public int getValidatorThreads() {
+        return validatorThreads;
+    }
+
+    public void setValidatorThreads(int validatorThreads) {
+        this.validatorThreads = validatorThreads;
+    }
+
+    public int getPipelineQueueCapacity() {
+        return pipelineQueueCapacity;
+    }
+
+    public void setPipelineQueueCapacity(int pipelineQueueCapacity) {
+        this.pipelineQueueCapacity = pipelineQueueCapacity;
+    }
+
+    public CsvParserType getParser() {
+        return parser;
+    }
+
+    public void setParser(CsvParserType parser) {
+        this.parser = parser;
+    }
+
+    public ImportMode getMode() {
+        return mode;
+    }
+
+    public void setMode(ImportMode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isCheckpointsEnabled() {
+        return checkpointsEnabled;
+    }
+
+    public void setCheckpointsEnabled(boolean checkpointsEnabled) {
+        this.checkpointsEnabled = checkpointsEnabled;
+    }
+
+    public String getServerFilesDirectory() {
+        return serverFilesDirectory;
+    }
+
+    public void setServerFilesDirectory(String serverFilesDirectory) {
+        this.serverFilesDirectory = serverFilesDirectory;
+    }
+
+    public int getMappedSegments() {
+        return mappedSegments;
+    }
+
+    public void setMappedSegments(int mappedSegments) {
+        this.mappedSegments = mappedSegments;
+    }
+}
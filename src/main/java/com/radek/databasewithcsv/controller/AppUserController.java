@@ -1,32 +1,61 @@
 package com.radek.databasewithcsv.controller;
 
+import com.radek.databasewithcsv.csvhelper.AppUserWriter;
+import com.radek.databasewithcsv.csvhelper.CompressionType;
 import com.radek.databasewithcsv.csvhelper.CsvCustomParsingException;
-import com.radek.databasewithcsv.csvhelper.CustomCsvReader;
+import com.radek.databasewithcsv.csvhelper.CustomCsvWriter;
+import com.radek.databasewithcsv.csvhelper.ExportFormat;
+import com.radek.databasewithcsv.csvhelper.ImportProgress;
+import com.radek.databasewithcsv.csvhelper.RejectedRowReport;
 import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.AppUserFilter;
+import com.radek.databasewithcsv.model.AppUserSlice;
+import com.radek.databasewithcsv.model.AppUserSortField;
+import com.radek.databasewithcsv.model.ContinuationToken;
+import com.radek.databasewithcsv.model.DeletionSummary;
+import com.radek.databasewithcsv.model.ImportJob;
+import com.radek.databasewithcsv.model.ImportSummary;
 import com.radek.databasewithcsv.service.AppUserService;
+import com.radek.databasewithcsv.service.ImportJobService;
 import com.radek.databasewithcsv.service.ServiceOperationException;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/appUsers")
@@ -35,54 +64,188 @@ public class AppUserController {
     private Logger log = LoggerFactory.getLogger(AppUserController.class);
 
     private final AppUserService appUserService;
+    private final ImportJobService importJobService;
 
     @Autowired
-    public AppUserController(AppUserService appUserService) {
+    public AppUserController(AppUserService appUserService, ImportJobService importJobService) {
         this.appUserService = appUserService;
+        this.importJobService = importJobService;
     }
 
     @PostMapping(produces = "application/json", consumes = "multipart/form-data")
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseEntity<?> add(@RequestParam(required = false) MultipartFile file) throws IOException, CsvCustomParsingException, ServiceOperationException {
-        if (file == null) {
-            log.error("Missing file parameter");
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing file parameter");
+        CompressionType compressionType = validateCsvFile(file);
+        log.info("Saving app users from file to database");
+        ImportSummary responseBody;
+        try (InputStream inputStream = file.getInputStream()) {
+            responseBody = appUserService.addAppUsers(inputStream, compressionType, new ImportProgress());
         }
-        if (!file.getContentType().equals("text/csv")) {
-            log.error("Invalid file format");
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid file format");
-        }
-        List<AppUser> appUsers = CustomCsvReader.appUserBuilder(file.getBytes());
-        if (appUsers.isEmpty()) {
+        if (responseBody.getRowsParsed() == responseBody.getRowsRejected()) {
             log.error("Attempt to add file without any correct app user");
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Attempt to add file without any correct app user");
         }
-        log.info("Saving app user list to database");
-        Collection<AppUser> responseBody = appUserService.addAppUsers(appUsers);
         return ResponseHelper.createJsonCreatedResponse(responseBody);
     }
 
+    @PostMapping(value = "/import", produces = "application/json", consumes = "multipart/form-data")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResponseEntity<?> importAppUsers(@RequestParam(required = false) MultipartFile file) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        CompressionType compressionType = validateCsvFile(file);
+        log.info("Streaming app users from file to database");
+        ImportSummary responseBody;
+        try (InputStream inputStream = file.getInputStream()) {
+            responseBody = appUserService.importAppUsers(inputStream, compressionType);
+        }
+        if (responseBody.getRowsParsed() == responseBody.getRowsRejected()) {
+            log.error("Attempt to import file without any correct app user");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Attempt to add file without any correct app user");
+        }
+        return ResponseHelper.createJsonCreatedResponse(responseBody);
+    }
+
+    @PostMapping(value = "/import/rejected-rows", produces = "text/csv", consumes = "multipart/form-data")
+    public ResponseEntity<StreamingResponseBody> importAppUsersWithRejectedRows(@RequestParam(required = false) MultipartFile file) throws IOException {
+        CompressionType compressionType = validateCsvFile(file);
+        log.info("Streaming app users from file to database and rejected rows to response");
+        InputStream inputStream = file.getInputStream();
+        return ResponseHelper.createCsvOkResponse(outputStream -> {
+            try (InputStream fileInputStream = inputStream; RejectedRowReport report = createRejectedRowReport(outputStream)) {
+                appUserService.importAppUsers(fileInputStream, compressionType, new ImportProgress(), report);
+            } catch (CsvCustomParsingException | ServiceOperationException e) {
+                log.error("An error occurred while streaming rejected rows of imported file");
+                throw new IOException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @PostMapping(value = "/import/async", produces = "application/json", consumes = "multipart/form-data")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseEntity<?> importAppUsersAsync(@RequestParam(required = false) MultipartFile file, @RequestParam(defaultValue = "false", name = "rejectedRowsReport") boolean rejectedRowsReport) throws IOException {
+        CompressionType compressionType = validateCsvFile(file);
+        Path uploadedFile = Files.createTempFile("app-users-import-", compressionType.getFileSuffix());
+        try {
+            file.transferTo(uploadedFile);
+        } catch (IOException | RuntimeException e) {
+            log.error("An error occurred while storing uploaded file of import job");
+            Files.deleteIfExists(uploadedFile);
+            throw e;
+        }
+        try {
+            ImportJob responseBody = importJobService.submit(uploadedFile, compressionType, rejectedRowsReport);
+            return ResponseHelper.createJsonAcceptedResponse(responseBody);
+        } catch (RejectedExecutionException e) {
+            log.error("Attempt to submit import job while import queue is full");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Import queue is full, try again later");
+        }
+    }
+
+    @PostMapping(value = "/import/server-file", produces = "application/json")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResponseEntity<?> importServerFile(@RequestParam(required = false, name = "fileName") String fileName) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        Path serverFile = resolveServerFile(fileName);
+        log.info("Importing app users from server file {}", serverFile);
+        ImportSummary responseBody = appUserService.importServerFile(serverFile);
+        if (responseBody.getRowsParsed() == responseBody.getRowsRejected()) {
+            log.error("Attempt to import file without any correct app user");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Attempt to add file without any correct app user");
+        }
+        return ResponseHelper.createJsonCreatedResponse(responseBody);
+    }
+
+    @PostMapping(value = "/import/server-file/rejected-rows", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> importServerFileWithRejectedRows(@RequestParam(required = false, name = "fileName") String fileName) {
+        Path serverFile = resolveServerFile(fileName);
+        log.info("Importing app users from server file {} and streaming rejected rows to response", serverFile);
+        return ResponseHelper.createCsvOkResponse(outputStream -> {
+            try (RejectedRowReport report = createRejectedRowReport(outputStream)) {
+                appUserService.importServerFile(serverFile, new ImportProgress(), report);
+            } catch (CsvCustomParsingException | ServiceOperationException e) {
+                log.error("An error occurred while streaming rejected rows of imported server file");
+                throw new IOException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @GetMapping(value = "/import/jobs/{jobId}", produces = "application/json")
+    public ResponseEntity<?> getImportJob(@PathVariable("jobId") String jobId) {
+        Optional<ImportJob> importJob = importJobService.getJob(jobId);
+        if (importJob.isEmpty()) {
+            log.error("Attempt to get import job that does not exist.");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Import job for provided id doesn't exist");
+        }
+        return ResponseHelper.createJsonOkResponse(importJob.get());
+    }
+
+    @GetMapping(value = "/import/jobs/{jobId}/rejected-rows", produces = "text/csv")
+    public ResponseEntity<?> getImportJobRejectedRows(@PathVariable("jobId") String jobId) {
+        Optional<Path> report = importJobService.getRejectedRowsReport(jobId);
+        if (report.isEmpty()) {
+            log.error("Attempt to get rejected rows report that does not exist.");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Rejected rows report for provided job id doesn't exist");
+        }
+        return ResponseHelper.createCsvOkResponse(new FileSystemResource(report.get()));
+    }
+
     @GetMapping(produces = "application/json")
-    public ResponseEntity<?> getFirstPage() throws ServiceOperationException {
+    public ResponseEntity<?> getFirstPage(@RequestParam(required = false, name = "pageSize") Integer pageSize, @RequestParam(required = false, name = "sortBy") String sortBy, @RequestParam(required = false, name = "direction") String direction) throws ServiceOperationException {
         log.info("Getting first page of sorted app users");
-        Page<AppUser> responseBody = appUserService.getFirstPageOfAppUsers();
+        Page<AppUser> responseBody = appUserService.getAppUsers(0, validatePageSize(pageSize), resolveSortField(sortBy), resolveDirection(direction));
         return ResponseHelper.createJsonOkResponse(responseBody);
     }
 
     @GetMapping(value = "/byPageNumber", produces = "application/json")
-    public ResponseEntity<?> getAppUsers(@RequestParam(required = false, name = "pageNumber") Integer pageNumber) throws ServiceOperationException {
+    public ResponseEntity<?> getAppUsers(@RequestParam(required = false, name = "pageNumber") Integer pageNumber, @RequestParam(required = false, name = "pageSize") Integer pageSize, @RequestParam(required = false, name = "sortBy") String sortBy,
+        @RequestParam(required = false, name = "direction") String direction) throws ServiceOperationException {
         if (pageNumber == null) {
             log.error("Attempt to provide null page number");
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Attempt to provide null page number");
         }
         log.info("Getting page number: {} of sorted app users", pageNumber);
-        Page<AppUser> responseBody = appUserService.getAppUsers(pageNumber);
+        Page<AppUser> responseBody = appUserService.getAppUsers(pageNumber, validatePageSize(pageSize), resolveSortField(sortBy), resolveDirection(direction));
         if (pageNumber > responseBody.getTotalPages()) {
             log.info("Page for provided page number: {} doesn't exists", pageNumber);
         }
         return ResponseHelper.createJsonOkResponse(responseBody);
     }
 
+    @GetMapping(value = "/seek", produces = "application/json")
+    public ResponseEntity<?> getAppUsersAfter(@RequestParam(required = false, name = "token") String token, @RequestParam(defaultValue = "false", name = "withTotalCount") boolean withTotalCount) throws ServiceOperationException {
+        ContinuationToken continuationToken = null;
+        if (token != null) {
+            continuationToken = ContinuationToken.decode(token).filter(ContinuationToken::hasBirthDate).orElseThrow(() -> {
+                log.error("Attempt to provide invalid continuation token");
+                return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid continuation token");
+            });
+        }
+        log.info("Getting slice of sorted app users after {}", continuationToken);
+        AppUserSlice responseBody = appUserService.getAppUsersAfter(continuationToken, withTotalCount);
+        return ResponseHelper.createJsonOkResponse(responseBody);
+    }
+
+    @GetMapping(value = "/export", produces = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<StreamingResponseBody> exportAppUsers(@RequestParam(defaultValue = "csv", name = "format") String format, @RequestParam(required = false, name = "lastName") String lastName,
+        @RequestParam(required = false, name = "bornFrom") String bornFrom, @RequestParam(required = false, name = "bornTo") String bornTo) {
+        ExportFormat exportFormat = ExportFormat.fromName(format).orElseThrow(() -> {
+            log.error("Attempt to export app users in unsupported format");
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Format must be one of: csv, ndjson");
+        });
+        AppUserFilter filter = AppUserFilter.builder()
+            .withLastName(lastName)
+            .withBornFrom(parseDate(bornFrom))
+            .withBornTo(parseDate(bornTo))
+            .build();
+        log.info("Exporting app users matching {} as {}", filter, exportFormat);
+        return ResponseHelper.createOkResponse(outputStream -> {
+            try (AppUserWriter writer = CustomCsvWriter.openAppUserWriter(outputStream, exportFormat)) {
+                appUserService.exportAppUsers(filter, writer);
+            } catch (ServiceOperationException e) {
+                log.error("An error occurred while streaming exported app users");
+                throw new IOException(e.getMessage(), e);
+            }
+        }, new MediaType(MediaType.valueOf(exportFormat.getMediaType()), StandardCharsets.UTF_8));
+    }
+
     @GetMapping(value = "/{id}", produces = "application/json")
     public ResponseEntity<?> getById(@PathVariable("id") Long id) throws ServiceOperationException {
         Optional<AppUser> appUser = appUserService.getAppUserById(id);
@@ -94,12 +257,34 @@ public class AppUserController {
     }
 
     @GetMapping(value = "/byLastName", produces = "application/json")
-    public ResponseEntity<?> getByLastName(@RequestParam(required = false, name = "lastName") String lastName) throws ServiceOperationException {
+    public ResponseEntity<?> getByLastName(@RequestParam(required = false, name = "lastName") String lastName, @RequestParam(required = false, name = "limit") Integer limit) throws ServiceOperationException {
+        if (lastName == null) {
+            log.error("Attempt to get app users without providing last name parameter.");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Attempt to get app users by last name without providing any name.");
+        }
+        if (limit != null && limit <= 0) {
+            log.error("Attempt to get app users by last name providing non-positive limit.");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be greater than zero");
+        }
+        Collection<AppUser> responseBody = appUserService.getAppUsersByLastName(lastName, limit);
+        return ResponseHelper.createJsonOkResponse(responseBody);
+    }
+
+    @GetMapping(value = "/byLastName/seek", produces = "application/json")
+    public ResponseEntity<?> getByLastNameAfter(@RequestParam(required = false, name = "lastName") String lastName, @RequestParam(required = false, name = "token") String token, @RequestParam(required = false, name = "pageSize") Integer pageSize,
+        @RequestParam(defaultValue = "false", name = "withTotalCount") boolean withTotalCount) throws ServiceOperationException {
         if (lastName == null) {
             log.error("Attempt to get app users without providing last name parameter.");
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Attempt to get app users by last name without providing any name.");
         }
-        Collection<AppUser> responseBody = appUserService.getAppUsersByLastName(lastName);
+        ContinuationToken continuationToken = null;
+        if (token != null) {
+            continuationToken = ContinuationToken.decode(token).orElseThrow(() -> {
+                log.error("Attempt to provide invalid continuation token");
+                return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid continuation token");
+            });
+        }
+        AppUserSlice responseBody = appUserService.getAppUsersByLastNameAfter(lastName, continuationToken, validatePageSize(pageSize), withTotalCount);
         return ResponseHelper.createJsonOkResponse(responseBody);
     }
 
@@ -112,11 +297,10 @@ public class AppUserController {
     @DeleteMapping(value = "/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ResponseEntity<?> deleteById(@PathVariable("id") Long id) throws ServiceOperationException {
-        if (!appUserService.existsById(id)) {
+        if (!appUserService.deleteById(id)) {
             log.error("Attempt to delete non-existing app user");
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "App user with provided id doesn't exist");
         }
-        appUserService.deleteById(id);
         log.debug("Deleted app user with id {}.", id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
@@ -129,8 +313,103 @@ public class AppUserController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @DeleteMapping(value = "/batch", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<?> deleteByIds(@RequestBody(required = false) List<Long> ids) throws ServiceOperationException {
+        if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+            log.error("Attempt to delete app users without providing ids");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ids cannot be null");
+        }
+        DeletionSummary responseBody = appUserService.deleteByIds(ids);
+        log.debug("Deleted {} app users, {} ids were missing.", responseBody.getDeletedCount(), responseBody.getMissingIds().size());
+        return ResponseHelper.createJsonOkResponse(responseBody);
+    }
+
+    @DeleteMapping(value = "/range", produces = "application/json")
+    public ResponseEntity<?> deleteByIdRange(@RequestParam("fromId") Long fromId, @RequestParam("toId") Long toId) throws ServiceOperationException {
+        if (fromId > toId) {
+            log.error("Attempt to delete app users providing id range with start greater than end");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromId cannot be greater than toId");
+        }
+        long deletedCount = appUserService.deleteByIdRange(fromId, toId);
+        log.debug("Deleted {} app users with ids from {} to {}.", deletedCount, fromId, toId);
+        return ResponseHelper.createJsonOkResponse(deletedCount);
+    }
+
     @GetMapping(value = "/count")
     public ResponseEntity<?> count() throws ServiceOperationException {
         return ResponseHelper.createJsonOkResponse(appUserService.count());
     }
+
+    @GetMapping(value = "/cache/stats", produces = "application/json")
+    public ResponseEntity<?> getCacheStatistics() {
+        return ResponseHelper.createJsonOkResponse(appUserService.getCacheStatistics());
+    }
+
+    private Integer validatePageSize(Integer pageSize) {
+        if (pageSize != null && pageSize <= 0) {
+            log.error("Attempt to provide non-positive page size");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be greater than zero");
+        }
+        return pageSize;
+    }
+
+    private AppUserSortField resolveSortField(String sortBy) {
+        if (sortBy == null) {
+            return null;
+        }
+        return AppUserSortField.fromProperty(sortBy).orElseThrow(() -> {
+            log.error("Attempt to sort app users by unsupported field");
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sort field");
+        });
+    }
+
+    private Direction resolveDirection(String direction) {
+        if (direction == null) {
+            return null;
+        }
+        return Direction.fromOptionalString(direction).orElseThrow(() -> {
+            log.error("Attempt to sort app users in unsupported direction");
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sort direction");
+        });
+    }
+
+    private LocalDate parseDate(String date) {
+        if (date == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            log.error("Attempt to provide invalid date");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Dates must be given as yyyy-MM-dd");
+        }
+    }
+
+    private Path resolveServerFile(String fileName) {
+        if (fileName == null) {
+            log.error("Missing file name parameter");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing file name parameter");
+        }
+        Optional<Path> serverFile = appUserService.resolveServerFile(fileName);
+        if (serverFile.isEmpty()) {
+            log.error("Attempt to import server file that is not available for import");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File is not available for server-side import");
+        }
+        return serverFile.get();
+    }
+
+    private RejectedRowReport createRejectedRowReport(OutputStream outputStream) {
+        return new RejectedRowReport(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
+    private CompressionType validateCsvFile(MultipartFile file) {
+        if (file == null) {
+            log.error("Missing file parameter");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing file parameter");
+        }
+        return CompressionType.fromMediaType(file.getContentType()).orElseThrow(() -> {
+            log.error("Invalid file format");
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid file format");
+        });
+    }
 }
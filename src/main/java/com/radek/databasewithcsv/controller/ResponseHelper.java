@@ -24,4 +24,31 @@ public class ResponseHelper {
         responseHeaders.setContentType(MediaType.APPLICATION_JSON);
         return new ResponseEntity<>(body, responseHeaders, HttpStatus.CREATED);
     }
+
+    public static ResponseEntity<?> createJsonAcceptedResponse(Object body) {
+        if (body == null) {
+            throw new IllegalArgumentException("Response body cannot be null");
+        }
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+        return new ResponseEntity<>(body, responseHeaders, HttpStatus.ACCEPTED);
+    }
+
+    public static <T> ResponseEntity<T> createCsvOkResponse(T body) {
+        if (body == null) {
+            throw new IllegalArgumentException("Response body cannot be null");
+        }
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.setContentType(MediaType.valueOf("text/csv"));
+        return new ResponseEntity<>(body, responseHeaders, HttpStatus.OK);
+    }
+
+    public static <T> ResponseEntity<T> createOkResponse(T body, MediaType contentType) {
+        if (body == null || contentType == null) {
+            throw new IllegalArgumentException("Response body and content type cannot be null");
+        }
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.setContentType(contentType);
+        return new ResponseEntity<>(body, responseHeaders, HttpStatus.OK);
+    }
 }
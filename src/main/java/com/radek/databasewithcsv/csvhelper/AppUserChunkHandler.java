@@ -0,0 +1,12 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.util.Collection;
+import java.util.List;
+
+@FunctionalInterface
+public interface AppUserChunkHandler<E extends Exception> {
+
+    Collection<AppUser> handle(List<AppUser> validatedAppUsers) throws E;
+}
@@ -0,0 +1,15 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface AppUserRowReader extends Closeable {
+
+    AppUser next() throws IOException, CsvCustomParsingException;
+
+    long getLineNumber();
+
+    String getRawLine();
+}
@@ -0,0 +1,11 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface AppUserWriter extends Closeable {
+
+    void write(AppUser appUser) throws IOException;
+}
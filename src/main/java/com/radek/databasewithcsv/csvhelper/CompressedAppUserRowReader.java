@@ -0,0 +1,42 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.zip.ZipException;
+
+class CompressedAppUserRowReader implements AppUserRowReader {
+
+    private final AppUserRowReader rowReader;
+    private final CompressionType compressionType;
+
+    CompressedAppUserRowReader(AppUserRowReader rowReader, CompressionType compressionType) {
+        this.rowReader = rowReader;
+        this.compressionType = compressionType;
+    }
+
+    @Override
+    public AppUser next() throws IOException, CsvCustomParsingException {
+        try {
+            return rowReader.next();
+        } catch (ZipException | EOFException e) {
+            throw CustomCsvReader.decompressionError(compressionType, e);
+        }
+    }
+
+    @Override
+    public long getLineNumber() {
+        return rowReader.getLineNumber();
+    }
+
+    @Override
+    public String getRawLine() {
+        return rowReader.getRawLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        rowReader.close();
+    }
+}
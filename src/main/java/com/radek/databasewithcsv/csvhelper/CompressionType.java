@@ -0,0 +1,35 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import java.util.List;
+import java.util.Optional;
+
+public enum CompressionType {
+    NONE(List.of("text/csv"), ".csv"),
+    GZIP(List.of("application/gzip", "application/x-gzip"), ".csv.gz"),
+    ZIP(List.of("application/zip", "application/x-zip-compressed"), ".zip");
+
+    private final List<String> mediaTypes;
+    private final String fileSuffix;
+
+    CompressionType(List<String> mediaTypes, String fileSuffix) {
+        this.mediaTypes = mediaTypes;
+        this.fileSuffix = fileSuffix;
+    }
+
+    public List<String> getMediaTypes() {
+        return mediaTypes;
+    }
+
+    public String getFileSuffix() {
+        return fileSuffix;
+    }
+
+    public static Optional<CompressionType> fromMediaType(String mediaType) {
+        for (CompressionType compressionType : values()) {
+            if (compressionType.mediaTypes.contains(mediaType)) {
+                return Optional.of(compressionType);
+            }
+        }
+        return Optional.empty();
+    }
+}
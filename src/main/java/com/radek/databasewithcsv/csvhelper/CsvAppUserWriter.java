@@ -0,0 +1,71 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.IOException;
+import java.io.Writer;
+
+class CsvAppUserWriter implements AppUserWriter {
+
+    static final String HEADER = "first_name;last_name;birth_date;phone_no";
+
+    private static final char SEPARATOR = ';';
+    private static final char QUOTE = '"';
+
+    private final Writer writer;
+    private boolean headerWritten;
+
+    CsvAppUserWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(AppUser appUser) throws IOException {
+        writeHeaderIfNeeded();
+        writeField(appUser.getFirstName());
+        writer.write(SEPARATOR);
+        writeField(appUser.getLastName());
+        writer.write(SEPARATOR);
+        writeField(appUser.getBirthDate());
+        writer.write(SEPARATOR);
+        writeField(appUser.getPhoneNumber());
+        writer.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeHeaderIfNeeded();
+        writer.close();
+    }
+
+    private void writeHeaderIfNeeded() throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            writer.write('\n');
+            headerWritten = true;
+        }
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        writer.write(value.replace("\"", "\"\""));
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return value.length() != value.trim().length();
+    }
+}
@@ -0,0 +1,6 @@
+package com.radek.databasewithcsv.csvhelper;
+
+public enum CsvParserType {
+    OPENCSV,
+    FAST
+}
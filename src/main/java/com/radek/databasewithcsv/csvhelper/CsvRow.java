@@ -0,0 +1,28 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+final class CsvRow {
+
+    private final AppUser appUser;
+    private final long lineNumber;
+    private final String rawLine;
+
+    CsvRow(AppUser appUser, long lineNumber, String rawLine) {
+        this.appUser = appUser;
+        this.lineNumber = lineNumber;
+        this.rawLine = rawLine;
+    }
+
+    AppUser getAppUser() {
+        return appUser;
+    }
+
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    String getRawLine() {
+        return rawLine;
+    }
+}
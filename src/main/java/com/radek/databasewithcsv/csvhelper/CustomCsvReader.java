@@ -1,34 +1,50 @@
 package com.radek.databasewithcsv.csvhelper;
 
+import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.ImportSummary;
 import com.radek.databasewithcsv.model.validation.AppUserValidator;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class CustomCsvReader {
 
+    static final String PARSING_ERROR_MESSAGE = "An error occurred while parsing file content to object - remove empty lines and redundant columns";
+    static final String DECOMPRESSION_ERROR_MESSAGE = "An error occurred while decompressing file - file is not a valid %s archive";
+
+    private static final int DECOMPRESSION_BUFFER_SIZE = 64 * 1024;
+
     private static Logger log = LoggerFactory.getLogger(CustomCsvReader.class);
 
     public static List<AppUser> appUserBuilder(byte[] fileContent) throws IOException, CsvCustomParsingException {
-        try {
-            List<AppUser> rawData = new CsvToBeanBuilder(new BufferedReader(new InputStreamReader(new ByteArrayInputStream(fileContent))))
-                .withType(AppUser.class)
-                .withSeparator(';')
-                .withIgnoreLeadingWhiteSpace(true)
-                .build()
-                .parse();
+        return appUserBuilder(new ByteArrayInputStream(fileContent));
+    }
+
+    public static List<AppUser> appUserBuilder(InputStream inputStream) throws IOException, CsvCustomParsingException {
+        try (Reader reader = createReader(inputStream)) {
+            List<AppUser> rawData = createCsvToBean(reader).parse();
             List<AppUser> validatedAppUsers = new ArrayList<>();
             for (AppUser appUser : rawData) {
-                if (AppUserValidator.validate(appUser).size() == 0) {
+                if (AppUserValidator.validationErrors(appUser) == 0) {
                     validatedAppUsers.add(appUser);
                 }
             }
@@ -36,7 +52,144 @@ public class CustomCsvReader {
             return validatedAppUsers;
         } catch (RuntimeException exc) {
             log.error("An unexpected error occurred while parsing file content to object");
-            throw new CsvCustomParsingException("An error occurred while parsing file content to object - remove empty lines and redundant columns");
+            throw new CsvCustomParsingException(PARSING_ERROR_MESSAGE);
+        }
+    }
+
+    public static <E extends Exception> ImportSummary readAppUsers(InputStream inputStream, int chunkSize, AppUserChunkHandler<E> handler) throws IOException, CsvCustomParsingException, E {
+        return readAppUsers(inputStream, chunkSize, handler, new ImportProgress());
+    }
+
+    public static <E extends Exception> ImportSummary readAppUsers(InputStream inputStream, int chunkSize, AppUserChunkHandler<E> handler, ImportProgress progress) throws IOException, CsvCustomParsingException, E {
+        try (AppUserRowReader rowReader = openRowReader(inputStream, CsvParserType.OPENCSV)) {
+            return readAppUsers(rowReader, chunkSize, handler, progress);
+        }
+    }
+
+    public static <E extends Exception> ImportSummary readAppUsers(AppUserRowReader rowReader, int chunkSize, AppUserChunkHandler<E> handler, ImportProgress progress) throws IOException, CsvCustomParsingException, E {
+        return readAppUsers(rowReader, chunkSize, handler, progress, RejectedRowReport.disabled());
+    }
+
+    public static <E extends Exception> ImportSummary readAppUsers(AppUserRowReader rowReader, int chunkSize, AppUserChunkHandler<E> handler, ImportProgress progress, RejectedRowReport report) throws IOException, CsvCustomParsingException, E {
+        if (rowReader == null) {
+            log.error("Attempt to read app users without row reader");
+            throw new IllegalArgumentException("Row reader cannot be null");
+        }
+        if (chunkSize <= 0) {
+            log.error("Attempt to read app users with non-positive chunk size");
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+        if (handler == null) {
+            log.error("Attempt to read app users without chunk handler");
+            throw new IllegalArgumentException("Chunk handler cannot be null");
+        }
+        if (progress == null) {
+            log.error("Attempt to read app users without import progress");
+            throw new IllegalArgumentException("Import progress cannot be null");
+        }
+        if (report == null) {
+            log.error("Attempt to read app users without rejected row report");
+            throw new IllegalArgumentException("Rejected row report cannot be null");
+        }
+        List<AppUser> chunk = new ArrayList<>(chunkSize);
+        List<CsvRow> chunkRows = new ArrayList<>(report.isEnabled() ? chunkSize : 0);
+        AppUser appUser;
+        while ((appUser = rowReader.next()) != null) {
+            progress.rowParsed();
+            int validationErrors = AppUserValidator.validationErrors(appUser);
+            if (validationErrors == 0) {
+                chunk.add(appUser);
+                if (report.isEnabled()) {
+                    chunkRows.add(new CsvRow(appUser, rowReader.getLineNumber(), rowReader.getRawLine()));
+                }
+            } else {
+                progress.rowRejected(validationErrors);
+                report.reject(rowReader.getLineNumber(), String.join(", ", AppUserValidator.describe(validationErrors)), rowReader.getRawLine());
+            }
+            if (chunk.size() == chunkSize) {
+                saveChunk(chunk, chunkRows, handler, progress, report);
+                chunk = new ArrayList<>(chunkSize);
+                chunkRows.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, chunkRows, handler, progress, report);
+        }
+        report.flush();
+        log.error("Attempt to save to database {} incorrect records, rejection reasons: {}", progress.getRowsRejected(), progress.getRejectionReasons());
+        return progress.toSummary();
+    }
+
+    private static <E extends Exception> void saveChunk(List<AppUser> chunk, List<CsvRow> chunkRows, AppUserChunkHandler<E> handler, ImportProgress progress, RejectedRowReport report) throws IOException, E {
+        Collection<AppUser> savedAppUsers = handler.handle(chunk);
+        progress.rowsSaved(savedAppUsers.size());
+        report.rejectUnsaved(chunkRows, savedAppUsers);
+        report.flush();
+    }
+
+    public static AppUserRowReader openRowReader(InputStream inputStream, CsvParserType parserType) {
+        Reader reader = createReader(inputStream);
+        if (parserType == CsvParserType.FAST) {
+            return new FastAppUserRowReader(reader);
+        }
+        return new OpenCsvAppUserRowReader(reader);
+    }
+
+    public static AppUserRowReader openRowReader(InputStream inputStream, CsvParserType parserType, CompressionType compressionType) throws IOException, CsvCustomParsingException {
+        if (inputStream == null) {
+            log.error("Attempt to read app users from null input stream");
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        if (compressionType == CompressionType.ZIP) {
+            return new CompressedAppUserRowReader(new ZipAppUserRowReader(new ZipInputStream(inputStream, StandardCharsets.UTF_8), parserType), compressionType);
+        }
+        if (compressionType == CompressionType.GZIP) {
+            try {
+                return new CompressedAppUserRowReader(openRowReader(new GZIPInputStream(inputStream, DECOMPRESSION_BUFFER_SIZE), parserType), compressionType);
+            } catch (ZipException | EOFException e) {
+                throw decompressionError(compressionType, e);
+            }
+        }
+        return openRowReader(inputStream, parserType);
+    }
+
+    static CsvCustomParsingException decompressionError(CompressionType compressionType, IOException cause) {
+        String archiveType = compressionType.name().toLowerCase(Locale.ROOT);
+        log.error("Attempt to read app users from invalid {} archive", archiveType);
+        return new CsvCustomParsingException(String.format(DECOMPRESSION_ERROR_MESSAGE, archiveType), cause);
+    }
+
+    static Reader createReader(InputStream inputStream) {
+        if (inputStream == null) {
+            log.error("Attempt to read app users from null input stream");
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    private static CsvToBean<AppUser> createCsvToBean(Reader reader) {
+        return new CsvToBeanBuilder<AppUser>(reader)
+            .withType(AppUser.class)
+            .withSeparator(';')
+            .withIgnoreLeadingWhiteSpace(true)
+            .build();
+    }
+
+    static Iterator<AppUser> createIterator(Reader reader) throws CsvCustomParsingException {
+        try {
+            return createCsvToBean(reader).iterator();
+        } catch (RuntimeException exc) {
+            log.error("An unexpected error occurred while reading header of file content");
+            throw new CsvCustomParsingException(PARSING_ERROR_MESSAGE, exc);
+        }
+    }
+
+    static AppUser nextAppUser(Iterator<AppUser> iterator) throws CsvCustomParsingException {
+        try {
+            return iterator.hasNext() ? iterator.next() : null;
+        } catch (RuntimeException exc) {
+            log.error("An unexpected error occurred while parsing file content to object");
+            throw new CsvCustomParsingException(PARSING_ERROR_MESSAGE, exc);
         }
     }
 }
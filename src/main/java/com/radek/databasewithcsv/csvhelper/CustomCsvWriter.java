@@ -0,0 +1,31 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CustomCsvWriter {
+
+    private static Logger log = LoggerFactory.getLogger(CustomCsvWriter.class);
+
+    public static AppUserWriter openAppUserWriter(OutputStream outputStream, ExportFormat format) {
+        if (outputStream == null) {
+            log.error("Attempt to write app users to null output stream");
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        if (format == null) {
+            log.error("Attempt to write app users without export format");
+            throw new IllegalArgumentException("Export format cannot be null");
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.NDJSON) {
+            return new NdjsonAppUserWriter(writer);
+        }
+        return new CsvAppUserWriter(writer);
+    }
+}
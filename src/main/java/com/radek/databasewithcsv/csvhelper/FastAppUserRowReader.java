@@ -0,0 +1,221 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.csvhelper.converters.LocalDateConverter;
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+class FastAppUserRowReader implements AppUserRowReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char SEPARATOR = ';';
+    private static final char QUOTE = '"';
+    private static final String[] COLUMNS = {"first_name", "last_name", "birth_date", "phone_no"};
+    private static final int FIRST_NAME = 0;
+    private static final int LAST_NAME = 1;
+    private static final int BIRTH_DATE = 2;
+    private static final int PHONE_NUMBER = 3;
+
+    private final Reader reader;
+    private final String header;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final String[] values = new String[COLUMNS.length];
+    private final StringBuilder quotedField = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private char[] line = new char[256];
+    private int lineLength;
+    private String fieldValue;
+    private int[] columnTargets;
+    private long lineNumber;
+
+    FastAppUserRowReader(Reader reader) {
+        this(reader, null, 0);
+    }
+
+    FastAppUserRowReader(Reader reader, String header, long linesBefore) {
+        this.reader = reader;
+        this.header = header;
+        this.lineNumber = linesBefore;
+    }
+
+    @Override
+    public AppUser next() throws IOException, CsvCustomParsingException {
+        if (columnTargets == null) {
+            readHeader();
+        }
+        if (!readLine()) {
+            return null;
+        }
+        parseRow();
+        return AppUser.builder()
+            .withFirstName(trim(values[FIRST_NAME]))
+            .withLastName(trim(values[LAST_NAME]))
+            .withBirthDate(LocalDateConverter.normalize(values[BIRTH_DATE]))
+            .withPhoneNumber(values[PHONE_NUMBER])
+            .build();
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public String getRawLine() {
+        return new String(line, 0, lineLength);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException, CsvCustomParsingException {
+        if (header != null) {
+            lineLength = 0;
+            appendToLine(header.toCharArray(), 0, header.length());
+        } else if (!readLine()) {
+            throw new CsvCustomParsingException(CustomCsvReader.PARSING_ERROR_MESSAGE);
+        }
+        int[] targets = new int[lineLength + 1];
+        int columnCount = 0;
+        int index = 0;
+        while (true) {
+            index = readField(index, true);
+            targets[columnCount++] = targetOf(fieldValue);
+            if (index >= lineLength) {
+                break;
+            }
+            index++;
+        }
+        columnTargets = Arrays.copyOf(targets, columnCount);
+    }
+
+    private int targetOf(String header) {
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (COLUMNS[i].equalsIgnoreCase(header)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void parseRow() throws CsvCustomParsingException {
+        Arrays.fill(values, null);
+        int column = 0;
+        int index = 0;
+        while (true) {
+            if (column >= columnTargets.length) {
+                throw new CsvCustomParsingException(CustomCsvReader.PARSING_ERROR_MESSAGE);
+            }
+            int target = columnTargets[column++];
+            index = readField(index, target >= 0);
+            if (target >= 0) {
+                values[target] = fieldValue;
+            }
+            if (index >= lineLength) {
+                break;
+            }
+            index++;
+        }
+        if (column != columnTargets.length) {
+            throw new CsvCustomParsingException(CustomCsvReader.PARSING_ERROR_MESSAGE);
+        }
+    }
+
+    private int readField(int start, boolean keep) throws CsvCustomParsingException {
+        int quoteIndex = start;
+        while (quoteIndex < lineLength && Character.isWhitespace(line[quoteIndex])) {
+            quoteIndex++;
+        }
+        if (quoteIndex < lineLength && line[quoteIndex] == QUOTE) {
+            return readQuotedField(quoteIndex + 1, keep);
+        }
+        int end = start;
+        while (end < lineLength && line[end] != SEPARATOR) {
+            end++;
+        }
+        fieldValue = keep ? new String(line, start, end - start) : null;
+        return end;
+    }
+
+    private int readQuotedField(int start, boolean keep) throws CsvCustomParsingException {
+        quotedField.setLength(0);
+        int index = start;
+        while (true) {
+            if (index >= lineLength) {
+                throw new CsvCustomParsingException(CustomCsvReader.PARSING_ERROR_MESSAGE);
+            }
+            char c = line[index++];
+            if (c == QUOTE) {
+                if (index < lineLength && line[index] == QUOTE) {
+                    quotedField.append(QUOTE);
+                    index++;
+                    continue;
+                }
+                break;
+            }
+            quotedField.append(c);
+        }
+        while (index < lineLength && line[index] != SEPARATOR) {
+            quotedField.append(line[index++]);
+        }
+        fieldValue = keep ? quotedField.toString() : null;
+        return index;
+    }
+
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean hasContent = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (hasContent) {
+                        lineNumber++;
+                    }
+                    return hasContent;
+                }
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == '\n' || c == '\r') {
+                    appendToLine(buffer, start, position - start);
+                    position++;
+                    skipLineFeed = c == '\r';
+                    lineNumber++;
+                    return true;
+                }
+                position++;
+            }
+            appendToLine(buffer, start, position - start);
+            hasContent = true;
+        }
+    }
+
+    private void appendToLine(char[] source, int start, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(source, start, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+}
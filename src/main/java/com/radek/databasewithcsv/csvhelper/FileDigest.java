@@ -0,0 +1,72 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class FileDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final long SAMPLE_SIZE = 64 * 1024;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static Logger log = LoggerFactory.getLogger(FileDigest.class);
+
+    public static String fingerprint(Path file) throws IOException {
+        if (file == null) {
+            log.error("Attempt to compute fingerprint of null file");
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        MessageDigest digest = createDigest();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer metadata = ByteBuffer.allocate(2 * Long.BYTES)
+                .putLong(size)
+                .putLong(Files.getLastModifiedTime(file).toMillis());
+            metadata.flip();
+            digest.update(metadata);
+            update(digest, channel, 0, Math.min(SAMPLE_SIZE, size));
+            update(digest, channel, Math.max(size - SAMPLE_SIZE, SAMPLE_SIZE), size);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " digest is not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, FileChannel channel, long from, long to) throws IOException {
+        if (from >= to) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, from + buffer.position()) == -1) {
+                break;
+            }
+        }
+        buffer.flip();
+        digest.update(buffer);
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
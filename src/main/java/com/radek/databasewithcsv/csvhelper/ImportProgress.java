@@ -0,0 +1,81 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.ImportStageStatistics;
+import com.radek.databasewithcsv.model.ImportSummary;
+import com.radek.databasewithcsv.model.validation.AppUserValidator;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+public class ImportProgress {
+
+    private final AtomicLong rowsParsed = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong rowsSaved = new AtomicLong();
+    private final AtomicLongArray rejectionCounts = new AtomicLongArray(AppUserValidator.errorTypesCount());
+    private final List<ImportStage> stages = new CopyOnWriteArrayList<>();
+
+    public void rowParsed() {
+        rowsParsed.incrementAndGet();
+    }
+
+    public void rowRejected(int validationErrors) {
+        rowsRejected.incrementAndGet();
+        int errors = validationErrors;
+        while (errors != 0) {
+            rejectionCounts.incrementAndGet(Integer.numberOfTrailingZeros(errors));
+            errors &= errors - 1;
+        }
+    }
+
+    public void rowsSaved(long count) {
+        rowsSaved.addAndGet(count);
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed.get();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.get();
+    }
+
+    public long getRowsSaved() {
+        return rowsSaved.get();
+    }
+
+    public Map<String, Long> getRejectionReasons() {
+        Map<String, Long> rejectionReasons = new LinkedHashMap<>();
+        for (int i = 0; i < rejectionCounts.length(); i++) {
+            long count = rejectionCounts.get(i);
+            if (count > 0) {
+                rejectionReasons.put(AppUserValidator.describe(1 << i).get(0), count);
+            }
+        }
+        return rejectionReasons;
+    }
+
+    public List<ImportStageStatistics> getStageStatistics() {
+        return stages.stream().map(ImportStage::toStatistics).collect(Collectors.toList());
+    }
+
+    ImportStage registerStage(String name, BlockingQueue<?> inputQueue) {
+        ImportStage stage = new ImportStage(name, inputQueue);
+        stages.add(stage);
+        return stage;
+    }
+
+    public ImportSummary toSummary() {
+        return ImportSummary.builder()
+            .withRowsParsed(getRowsParsed())
+            .withRowsRejected(getRowsRejected())
+            .withRowsSaved(getRowsSaved())
+            .build();
+    }
+}
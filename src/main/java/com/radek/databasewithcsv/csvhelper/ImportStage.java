@@ -0,0 +1,36 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.ImportStageStatistics;
+
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportStage {
+
+    private final String name;
+    private final BlockingQueue<?> inputQueue;
+    private final AtomicLong rowsProcessed = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+
+    ImportStage(String name, BlockingQueue<?> inputQueue) {
+        this.name = name;
+        this.inputQueue = inputQueue;
+    }
+
+    void processed(Collection<?> rows) {
+        rowsProcessed.addAndGet(rows.size());
+    }
+
+    public ImportStageStatistics toStatistics() {
+        long rows = rowsProcessed.get();
+        long elapsedNanos = System.nanoTime() - startNanos;
+        return ImportStageStatistics.builder()
+            .withStage(name)
+            .withQueueDepth(inputQueue == null ? 0 : inputQueue.size())
+            .withQueueCapacity(inputQueue == null ? 0 : inputQueue.size() + inputQueue.remainingCapacity())
+            .withRowsProcessed(rows)
+            .withRowsPerSecond(elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos)
+            .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MappedCsvReader {
+
+    private static final long MAX_SEGMENT_SIZE = 256L * 1024 * 1024;
+    private static final int SCAN_WINDOW_SIZE = 64 * 1024;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private static Logger log = LoggerFactory.getLogger(MappedCsvReader.class);
+
+    public static List<AppUserRowReader> openRowReaders(Path file, int segmentCount) throws IOException, CsvCustomParsingException {
+        return openRowReaders(file, segmentCount, false);
+    }
+
+    public static List<AppUserRowReader> openRowReaders(Path file, int segmentCount, boolean numberLines) throws IOException, CsvCustomParsingException {
+        if (file == null) {
+            log.error("Attempt to map null file");
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        if (segmentCount <= 0) {
+            log.error("Attempt to map file into non-positive number of segments");
+            throw new IllegalArgumentException("Segment count must be greater than zero");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                log.error("Attempt to import empty file {}", file);
+                throw new CsvCustomParsingException(CustomCsvReader.PARSING_ERROR_MESSAGE);
+            }
+            long dataStart = skipLines(channel, 0, size, 1, SCAN_WINDOW_SIZE);
+            String header = readHeader(channel, dataStart);
+            long dataSize = size - dataStart;
+            long segments = Math.max(segmentCount, (dataSize + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE);
+            List<MappedByteBuffer> mappedSegments = new ArrayList<>();
+            long segmentStart = dataStart;
+            for (long i = 1; i <= segments && segmentStart < size; i++) {
+                long target = i == segments ? size : Math.max(segmentStart, dataStart + dataSize * i / segments);
+                long segmentEnd = target >= size ? size : skipLines(channel, target, size, 1, SCAN_WINDOW_SIZE);
+                if (segmentEnd - segmentStart > Integer.MAX_VALUE) {
+                    log.error("Line of file {} starting after byte {} is too long to be mapped", file, segmentStart);
+                    throw new CsvCustomParsingException(CustomCsvReader.PARSING_ERROR_MESSAGE);
+                }
+                if (segmentEnd > segmentStart) {
+                    mappedSegments.add(channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentEnd - segmentStart));
+                }
+                segmentStart = segmentEnd;
+            }
+            long[] linesBefore = numberLines ? countLinesBefore(mappedSegments) : new long[mappedSegments.size()];
+            List<AppUserRowReader> rowReaders = new ArrayList<>(mappedSegments.size());
+            for (int i = 0; i < mappedSegments.size(); i++) {
+                rowReaders.add(new FastAppUserRowReader(new MappedSegmentReader(mappedSegments.get(i)), header, linesBefore[i]));
+            }
+            log.info("Mapped file {} of {} bytes into {} segments", file, size, rowReaders.size());
+            return rowReaders;
+        }
+    }
+
+    public static AppUserRowReader openRowReaderAfterLine(Path file, long lineNumber) throws IOException, CsvCustomParsingException {
+        if (file == null) {
+            log.error("Attempt to map null file");
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        if (lineNumber < 0) {
+            log.error("Attempt to resume reading file after negative line number");
+            throw new IllegalArgumentException("Line number cannot be negative");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size == 0) {
+                log.error("Attempt to import empty file {}", file);
+                throw new CsvCustomParsingException(CustomCsvReader.PARSING_ERROR_MESSAGE);
+            }
+            long headerEnd = skipLines(channel, 0, size, 1, SCAN_WINDOW_SIZE);
+            String header = readHeader(channel, headerEnd);
+            long linesBefore = Math.max(lineNumber, 1);
+            long dataStart = skipLines(channel, headerEnd, size, linesBefore - 1, MAX_SEGMENT_SIZE);
+            channel.position(dataStart);
+            log.info("Resuming file {} of {} bytes after line {} at byte {}", file, size, linesBefore, dataStart);
+            return new FastAppUserRowReader(CustomCsvReader.createReader(Channels.newInputStream(channel)), header, linesBefore);
+        } catch (IOException | CsvCustomParsingException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static long skipLines(FileChannel channel, long from, long size, long lines, long windowSize) throws IOException {
+        long skippedLines = 0;
+        boolean afterCarriageReturn = false;
+        long windowStart = from;
+        while (windowStart < size) {
+            int currentWindowSize = (int) Math.min(windowSize, size - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, currentWindowSize);
+            for (int i = 0; i < currentWindowSize; i++) {
+                byte b = window.get(i);
+                if (skippedLines == lines) {
+                    return afterCarriageReturn && b == LINE_FEED ? windowStart + i + 1 : windowStart + i;
+                }
+                if (afterCarriageReturn && b == LINE_FEED) {
+                    afterCarriageReturn = false;
+                    continue;
+                }
+                afterCarriageReturn = b == CARRIAGE_RETURN;
+                if (afterCarriageReturn || b == LINE_FEED) {
+                    skippedLines++;
+                }
+            }
+            windowStart += currentWindowSize;
+        }
+        return size;
+    }
+
+    private static long[] countLinesBefore(List<MappedByteBuffer> mappedSegments) {
+        long[] lineCounts = IntStream.range(0, mappedSegments.size())
+            .parallel()
+            .mapToLong(i -> countLines(mappedSegments.get(i)))
+            .toArray();
+        long[] linesBefore = new long[lineCounts.length];
+        long lines = 1;
+        for (int i = 0; i < lineCounts.length; i++) {
+            linesBefore[i] = lines;
+            lines += lineCounts[i];
+        }
+        return linesBefore;
+    }
+
+    private static long countLines(MappedByteBuffer segment) {
+        long lines = 0;
+        int limit = segment.limit();
+        for (int i = 0; i < limit; i++) {
+            byte b = segment.get(i);
+            if (b == CARRIAGE_RETURN || b == LINE_FEED && (i == 0 || segment.get(i - 1) != CARRIAGE_RETURN)) {
+                lines++;
+            }
+        }
+        return limit > 0 && !isLineTerminator(segment.get(limit - 1)) ? lines + 1 : lines;
+    }
+
+    private static boolean isLineTerminator(byte b) {
+        return b == LINE_FEED || b == CARRIAGE_RETURN;
+    }
+
+    private static String readHeader(FileChannel channel, long headerEnd) throws IOException {
+        if (headerEnd > Integer.MAX_VALUE) {
+            throw new IOException("Header line is too long");
+        }
+        MappedByteBuffer headerBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, headerEnd);
+        int length = (int) headerEnd;
+        while (length > 0 && isLineTerminator(headerBuffer.get(length - 1))) {
+            length--;
+        }
+        headerBuffer.limit(length);
+        return StandardCharsets.UTF_8.decode(headerBuffer).toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+class MappedSegmentReader extends Reader {
+
+    private final ByteBuffer segment;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private boolean flushed;
+
+    MappedSegmentReader(ByteBuffer segment) {
+        this.segment = segment;
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (flushed) {
+            return -1;
+        }
+        CharBuffer target = CharBuffer.wrap(chars, offset, length);
+        decoder.decode(segment, target, true);
+        if (!segment.hasRemaining()) {
+            decoder.flush(target);
+            flushed = true;
+        }
+        int read = target.position() - offset;
+        return read == 0 && flushed ? -1 : read;
+    }
+
+    @Override
+    public void close() {
+    }
+}
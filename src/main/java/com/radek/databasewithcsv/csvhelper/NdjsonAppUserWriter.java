@@ -0,0 +1,33 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.IOException;
+import java.io.Writer;
+
+class NdjsonAppUserWriter implements AppUserWriter {
+
+    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .writerFor(AppUser.class);
+
+    private final Writer writer;
+
+    NdjsonAppUserWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(AppUser appUser) throws IOException {
+        OBJECT_WRITER.writeValue(writer, appUser);
+        writer.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,74 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+
+class OpenCsvAppUserRowReader implements AppUserRowReader {
+
+    private final LineRecordingReader reader;
+    private Iterator<AppUser> iterator;
+    private long lineNumber = 1;
+
+    OpenCsvAppUserRowReader(Reader reader) {
+        this.reader = new LineRecordingReader(reader);
+    }
+
+    @Override
+    public AppUser next() throws CsvCustomParsingException {
+        if (iterator == null) {
+            iterator = CustomCsvReader.createIterator(reader);
+        }
+        AppUser appUser = CustomCsvReader.nextAppUser(iterator);
+        if (appUser != null) {
+            lineNumber++;
+        }
+        return appUser;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public String getRawLine() {
+        return reader.getLine(lineNumber);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static class LineRecordingReader extends BufferedReader {
+
+        private static final int RECORDED_LINES = 4;
+
+        private final String[] lines = new String[RECORDED_LINES];
+        private long linesRead;
+
+        LineRecordingReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        public String readLine() throws IOException {
+            String line = super.readLine();
+            if (line != null) {
+                lines[(int) (linesRead++ % RECORDED_LINES)] = line;
+            }
+            return line;
+        }
+
+        String getLine(long lineNumber) {
+            if (lineNumber < 1 || lineNumber > linesRead || linesRead - lineNumber >= RECORDED_LINES) {
+                return null;
+            }
+            return lines[(int) ((lineNumber - 1) % RECORDED_LINES)];
+        }
+    }
+}
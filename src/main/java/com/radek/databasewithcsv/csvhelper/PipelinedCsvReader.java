@@ -0,0 +1,230 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.ImportSummary;
+import com.radek.databasewithcsv.model.validation.AppUserValidator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PipelinedCsvReader {
+
+    private static final int PARSED_BATCH_SIZE = 256;
+    private static final RowBatch END_OF_STREAM = new RowBatch(-1, -1, List.of());
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "csv-pipeline-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static Logger log = LoggerFactory.getLogger(PipelinedCsvReader.class);
+
+    public static <E extends Exception> ImportSummary readAppUsers(AppUserRowReader rowReader, int chunkSize, int validatorThreads, int queueCapacity, AppUserChunkHandler<E> handler, ImportProgress progress) throws IOException, CsvCustomParsingException, E {
+        if (rowReader == null) {
+            log.error("Attempt to read app users without row reader");
+            throw new IllegalArgumentException("Row reader cannot be null");
+        }
+        return readAppUsers(Collections.singletonList(rowReader), chunkSize, validatorThreads, queueCapacity, handler, progress, RejectedRowReport.disabled());
+    }
+
+    public static <E extends Exception> ImportSummary readAppUsers(List<AppUserRowReader> rowReaders, int chunkSize, int validatorThreads, int queueCapacity, AppUserChunkHandler<E> handler, ImportProgress progress, RejectedRowReport report) throws IOException, CsvCustomParsingException, E {
+        if (rowReaders == null || rowReaders.stream().anyMatch(Objects::isNull)) {
+            log.error("Attempt to read app users without row readers");
+            throw new IllegalArgumentException("Row readers cannot be null");
+        }
+        if (chunkSize <= 0 || validatorThreads <= 0 || queueCapacity <= 0) {
+            log.error("Attempt to read app users with non-positive pipeline settings");
+            throw new IllegalArgumentException("Chunk size, validator threads and queue capacity must be greater than zero");
+        }
+        if (handler == null) {
+            log.error("Attempt to read app users without chunk handler");
+            throw new IllegalArgumentException("Chunk handler cannot be null");
+        }
+        if (progress == null) {
+            log.error("Attempt to read app users without import progress");
+            throw new IllegalArgumentException("Import progress cannot be null");
+        }
+        if (report == null) {
+            log.error("Attempt to read app users without rejected row report");
+            throw new IllegalArgumentException("Rejected row report cannot be null");
+        }
+        BlockingQueue<RowBatch> parsedQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<RowBatch> validatedQueue = new ArrayBlockingQueue<>(queueCapacity);
+        ImportStage parserStage = progress.registerStage("parser", null);
+        ImportStage validatorStage = progress.registerStage("validator", parsedQueue);
+        ImportStage writerStage = progress.registerStage("writer", validatedQueue);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicInteger runningParsers = new AtomicInteger(rowReaders.size());
+        Semaphore batchesInFlight = new Semaphore(2 * queueCapacity + validatorThreads);
+        List<Future<?>> tasks = new ArrayList<>(validatorThreads + rowReaders.size());
+        try {
+            for (int i = 0; i < validatorThreads; i++) {
+                tasks.add(EXECUTOR.submit(() -> validate(parsedQueue, validatedQueue, validatorStage, progress, report, failure)));
+            }
+            for (int i = 0; i < rowReaders.size(); i++) {
+                AppUserRowReader rowReader = rowReaders.get(i);
+                int readerIndex = i;
+                tasks.add(EXECUTOR.submit(() -> parse(rowReader, readerIndex, parsedQueue, batchesInFlight, validatorThreads, runningParsers, parserStage, progress, report.isEnabled(), failure)));
+            }
+            if (rowReaders.isEmpty()) {
+                signalEndOfStream(parsedQueue, validatorThreads);
+            }
+            write(validatedQueue, batchesInFlight, validatorThreads, rowReaders.size(), chunkSize, handler, writerStage, progress, report, failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Import pipeline was interrupted");
+            throw new CsvCustomParsingException("Import was interrupted", e);
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+        if (failure.get() != null) {
+            log.error("An unexpected error occurred while parsing file content to object");
+            throw new CsvCustomParsingException(CustomCsvReader.PARSING_ERROR_MESSAGE, failure.get());
+        }
+        report.flush();
+        log.error("Attempt to save to database {} incorrect records, rejection reasons: {}", progress.getRowsRejected(), progress.getRejectionReasons());
+        return progress.toSummary();
+    }
+
+    private static void parse(AppUserRowReader rowReader, int readerIndex, BlockingQueue<RowBatch> parsedQueue, Semaphore batchesInFlight, int validatorThreads, AtomicInteger runningParsers, ImportStage stage, ImportProgress progress, boolean keepRawLines, AtomicReference<Exception> failure) {
+        try {
+            try {
+                List<CsvRow> batch = new ArrayList<>(PARSED_BATCH_SIZE);
+                long sequence = 0;
+                AppUser appUser;
+                while (failure.get() == null && (appUser = rowReader.next()) != null) {
+                    progress.rowParsed();
+                    batch.add(new CsvRow(appUser, rowReader.getLineNumber(), keepRawLines ? rowReader.getRawLine() : null));
+                    if (batch.size() == PARSED_BATCH_SIZE) {
+                        stage.processed(batch);
+                        batchesInFlight.acquire();
+                        parsedQueue.put(new RowBatch(readerIndex, sequence++, batch));
+                        batch = new ArrayList<>(PARSED_BATCH_SIZE);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    stage.processed(batch);
+                    batchesInFlight.acquire();
+                    parsedQueue.put(new RowBatch(readerIndex, sequence, batch));
+                }
+            } catch (IOException | CsvCustomParsingException | RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+            if (runningParsers.decrementAndGet() == 0) {
+                signalEndOfStream(parsedQueue, validatorThreads);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void signalEndOfStream(BlockingQueue<RowBatch> parsedQueue, int validatorThreads) throws InterruptedException {
+        for (int i = 0; i < validatorThreads; i++) {
+            parsedQueue.put(END_OF_STREAM);
+        }
+    }
+
+    private static void validate(BlockingQueue<RowBatch> parsedQueue, BlockingQueue<RowBatch> validatedQueue, ImportStage stage, ImportProgress progress, RejectedRowReport report, AtomicReference<Exception> failure) {
+        try {
+            try {
+                RowBatch batch;
+                while ((batch = parsedQueue.take()) != END_OF_STREAM) {
+                    List<CsvRow> validatedRows = new ArrayList<>(batch.rows.size());
+                    for (CsvRow row : batch.rows) {
+                        int validationErrors = AppUserValidator.validationErrors(row.getAppUser());
+                        if (validationErrors == 0) {
+                            validatedRows.add(row);
+                        } else {
+                            progress.rowRejected(validationErrors);
+                            report.reject(row.getLineNumber(), String.join(", ", AppUserValidator.describe(validationErrors)), row.getRawLine());
+                        }
+                    }
+                    stage.processed(batch.rows);
+                    validatedQueue.put(new RowBatch(batch.readerIndex, batch.sequence, validatedRows));
+                }
+            } catch (IOException | RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+            validatedQueue.put(END_OF_STREAM);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <E extends Exception> void write(BlockingQueue<RowBatch> validatedQueue, Semaphore batchesInFlight, int validatorThreads, int readerCount, int chunkSize, AppUserChunkHandler<E> handler, ImportStage stage,
+        ImportProgress progress, RejectedRowReport report, AtomicReference<Exception> failure) throws IOException, InterruptedException, E {
+        int finishedValidators = 0;
+        long[] nextSequences = new long[readerCount];
+        List<Map<Long, List<CsvRow>>> pendingBatches = new ArrayList<>(readerCount);
+        for (int i = 0; i < readerCount; i++) {
+            pendingBatches.add(new HashMap<>());
+        }
+        List<CsvRow> chunk = new ArrayList<>(chunkSize);
+        while (finishedValidators < validatorThreads) {
+            RowBatch batch = validatedQueue.take();
+            if (batch == END_OF_STREAM) {
+                finishedValidators++;
+                continue;
+            }
+            Map<Long, List<CsvRow>> pending = pendingBatches.get(batch.readerIndex);
+            pending.put(batch.sequence, batch.rows);
+            List<CsvRow> rows;
+            while ((rows = pending.remove(nextSequences[batch.readerIndex])) != null) {
+                nextSequences[batch.readerIndex]++;
+                batchesInFlight.release();
+                for (CsvRow row : rows) {
+                    chunk.add(row);
+                    if (chunk.size() == chunkSize) {
+                        saveChunk(chunk, handler, stage, progress, report);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+        }
+        if (!chunk.isEmpty() && failure.get() == null) {
+            saveChunk(chunk, handler, stage, progress, report);
+        }
+    }
+
+    private static <E extends Exception> void saveChunk(List<CsvRow> chunk, AppUserChunkHandler<E> handler, ImportStage stage, ImportProgress progress, RejectedRowReport report) throws IOException, E {
+        List<AppUser> appUsers = new ArrayList<>(chunk.size());
+        for (CsvRow row : chunk) {
+            appUsers.add(row.getAppUser());
+        }
+        Collection<AppUser> savedAppUsers = handler.handle(appUsers);
+        progress.rowsSaved(savedAppUsers.size());
+        stage.processed(chunk);
+        report.rejectUnsaved(chunk, savedAppUsers);
+        report.flush();
+    }
+
+    private static class RowBatch {
+        private final int readerIndex;
+        private final long sequence;
+        private final List<CsvRow> rows;
+
+        RowBatch(int readerIndex, long sequence, List<CsvRow> rows) {
+            this.readerIndex = readerIndex;
+            this.sequence = sequence;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class RejectedRowReport implements Closeable {
+
+    static final String HEADER = "line_number;reason;raw_line";
+    static final String DUPLICATED_PHONE_NUMBER = "Phone number is not unique";
+
+    private static final RejectedRowReport DISABLED = new RejectedRowReport();
+
+    private static Logger log = LoggerFactory.getLogger(RejectedRowReport.class);
+
+    private final Writer writer;
+    private boolean headerWritten;
+
+    private RejectedRowReport() {
+        this.writer = null;
+    }
+
+    public RejectedRowReport(Writer writer) {
+        if (writer == null) {
+            log.error("Attempt to create rejected row report without writer");
+            throw new IllegalArgumentException("Writer cannot be null");
+        }
+        this.writer = writer;
+    }
+
+    public static RejectedRowReport disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return writer != null;
+    }
+
+    public synchronized void reject(long lineNumber, String reason, String rawLine) throws IOException {
+        if (writer == null) {
+            return;
+        }
+        writeHeaderIfNeeded();
+        writer.write(Long.toString(lineNumber));
+        writer.write(';');
+        writeQuoted(reason);
+        writer.write(';');
+        writeQuoted(rawLine);
+        writer.write('\n');
+    }
+
+    public synchronized void flush() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        writeHeaderIfNeeded();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        writeHeaderIfNeeded();
+        writer.close();
+    }
+
+    void rejectUnsaved(List<CsvRow> rows, Collection<AppUser> savedAppUsers) throws IOException {
+        if (writer == null || rows.size() == savedAppUsers.size()) {
+            return;
+        }
+        Iterator<AppUser> savedIterator = savedAppUsers.iterator();
+        AppUser nextSaved = savedIterator.hasNext() ? savedIterator.next() : null;
+        for (CsvRow row : rows) {
+            if (nextSaved != null && phoneNumber(row.getAppUser()).equals(phoneNumber(nextSaved))) {
+                nextSaved = savedIterator.hasNext() ? savedIterator.next() : null;
+            } else {
+                reject(row.getLineNumber(), DUPLICATED_PHONE_NUMBER, row.getRawLine());
+            }
+        }
+    }
+
+    private static String phoneNumber(AppUser appUser) {
+        return appUser.getPhoneNumber() == null ? "" : appUser.getPhoneNumber();
+    }
+
+    private void writeHeaderIfNeeded() throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            writer.write('\n');
+            headerWritten = true;
+        }
+    }
+
+    private void writeQuoted(String value) throws IOException {
+        writer.write('"');
+        if (value != null) {
+            writer.write(value.replace("\"", "\"\""));
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,67 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class ZipAppUserRowReader implements AppUserRowReader {
+
+    private static final String CSV_EXTENSION = ".csv";
+
+    private static Logger log = LoggerFactory.getLogger(ZipAppUserRowReader.class);
+
+    private final ZipInputStream zipInputStream;
+    private final CsvParserType parserType;
+    private AppUserRowReader entryRowReader;
+
+    ZipAppUserRowReader(ZipInputStream zipInputStream, CsvParserType parserType) {
+        this.zipInputStream = zipInputStream;
+        this.parserType = parserType;
+    }
+
+    @Override
+    public AppUser next() throws IOException, CsvCustomParsingException {
+        while (entryRowReader != null || openNextEntry()) {
+            AppUser appUser = entryRowReader.next();
+            if (appUser != null) {
+                return appUser;
+            }
+            entryRowReader = null;
+        }
+        return null;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return entryRowReader == null ? 0 : entryRowReader.getLineNumber();
+    }
+
+    @Override
+    public String getRawLine() {
+        return entryRowReader == null ? null : entryRowReader.getRawLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        zipInputStream.close();
+    }
+
+    private boolean openNextEntry() throws IOException {
+        ZipEntry entry;
+        while ((entry = zipInputStream.getNextEntry()) != null) {
+            if (!entry.isDirectory() && entry.getName().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION)) {
+                log.info("Reading app users from archive entry {}", entry.getName());
+                entryRowReader = CustomCsvReader.openRowReader(zipInputStream, parserType);
+                return true;
+            }
+            log.info("Skipping archive entry {} which is not a csv file", entry.getName());
+        }
+        return false;
+    }
+}
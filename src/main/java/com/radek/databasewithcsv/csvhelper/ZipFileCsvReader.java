@@ -0,0 +1,62 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import com.radek.databasewithcsv.model.ImportSummary;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ZipFileCsvReader {
+
+    private static final String CSV_EXTENSION = ".csv";
+
+    private static Logger log = LoggerFactory.getLogger(ZipFileCsvReader.class);
+
+    public static <E extends Exception> ImportSummary readAppUsers(Path file, CsvParserType parserType, int chunkSize, int validatorThreads, int queueCapacity, AppUserChunkHandler<E> handler,
+        ImportProgress progress, RejectedRowReport report) throws IOException, CsvCustomParsingException, E {
+        if (file == null) {
+            log.error("Attempt to read app users from null zip file");
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        try (ZipFile zipFile = openZipFile(file)) {
+            List<AppUserRowReader> rowReaders = new ArrayList<>();
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION)) {
+                    rowReaders.add(openEntry(zipFile, entry, parserType));
+                } else {
+                    log.info("Skipping archive entry {} which is not a csv file", entry.getName());
+                }
+            }
+            log.info("Reading app users from {} entries of zip file {} in parallel", rowReaders.size(), file);
+            return PipelinedCsvReader.readAppUsers(rowReaders, chunkSize, validatorThreads, queueCapacity, handler, progress, report);
+        }
+    }
+
+    private static ZipFile openZipFile(Path file) throws IOException, CsvCustomParsingException {
+        try {
+            return new ZipFile(file.toFile(), StandardCharsets.UTF_8);
+        } catch (ZipException e) {
+            throw CustomCsvReader.decompressionError(CompressionType.ZIP, e);
+        }
+    }
+
+    private static AppUserRowReader openEntry(ZipFile zipFile, ZipEntry entry, CsvParserType parserType) throws IOException, CsvCustomParsingException {
+        try {
+            return new CompressedAppUserRowReader(CustomCsvReader.openRowReader(zipFile.getInputStream(entry), parserType), CompressionType.ZIP);
+        } catch (ZipException e) {
+            throw CustomCsvReader.decompressionError(CompressionType.ZIP, e);
+        }
+    }
+}
@@ -4,38 +4,59 @@ import com.opencsv.bean.AbstractBeanField;
 import com.opencsv.exceptions.CsvConstraintViolationException;
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
 
-import java.util.regex.Pattern;
-
 public class LocalDateConverter extends AbstractBeanField {
 
-    private static Pattern sixDigitsDate = Pattern.compile("[0-9]{4}.[1-9]{1}.[1-9]{1}");
-    private static Pattern oneDigitMonthDate = Pattern.compile("[0-9]{4}.[1-9]{1}.[0-3]{1}[0-9]{1}$");
-    private static Pattern oneDigitDayDate = Pattern.compile("[0-9]{4}.[0-1]{1}[0-9]{1}.[1-9]{1}$");
-    private static Pattern correctDatePattern = Pattern.compile("[0-9]{4}.[0-1]{1}[0-9]{1}.[0-3]{1}[0-9]{1}$");
-
     @Override
     protected Object convert(String dateInput) throws CsvDataTypeMismatchException, CsvConstraintViolationException {
-        String adjustedDateInput = adjustDateInput(dateInput);
-        if (adjustedDateInput != null) {
-            return adjustedDateInput.replace(".", "-");
-        }
-        return adjustedDateInput;
+        return normalize(dateInput);
     }
 
-    private String adjustDateInput(String dateInput) {
-        StringBuilder dateBuilder = new StringBuilder(dateInput);
-        if (sixDigitsDate.matcher(dateInput).matches()) {
-            return dateBuilder.insert(5, "0").insert(8, "0").toString();
+    public static String normalize(String dateInput) {
+        if (dateInput == null || !hasYear(dateInput) || dateInput.length() < 8 || !isSeparator(dateInput.charAt(4))) {
+            return null;
+        }
+        int length = dateInput.length();
+        if (length == 8 && isDigit(dateInput, 5, '1', '9') && isSeparator(dateInput.charAt(6)) && isDigit(dateInput, 7, '1', '9')) {
+            return buildDate(dateInput, '0', dateInput.charAt(5), dateInput.charAt(6), '0', dateInput.charAt(7));
         }
-        if (oneDigitDayDate.matcher(dateInput).matches()) {
-            return dateBuilder.insert(8, "0").toString();
+        if (length == 9 && isDigit(dateInput, 5, '0', '1') && isDigit(dateInput, 6, '0', '9') && isSeparator(dateInput.charAt(7)) && isDigit(dateInput, 8, '1', '9')) {
+            return buildDate(dateInput, dateInput.charAt(5), dateInput.charAt(6), dateInput.charAt(7), '0', dateInput.charAt(8));
         }
-        if (oneDigitMonthDate.matcher(dateInput).matches()) {
-            return dateBuilder.insert(5, "0").toString();
+        if (length == 9 && isDigit(dateInput, 5, '1', '9') && isSeparator(dateInput.charAt(6)) && isDigit(dateInput, 7, '0', '3') && isDigit(dateInput, 8, '0', '9')) {
+            return buildDate(dateInput, '0', dateInput.charAt(5), dateInput.charAt(6), dateInput.charAt(7), dateInput.charAt(8));
         }
-        if (correctDatePattern.matcher(dateInput).matches()) {
-            return dateInput;
+        if (length == 10 && isDigit(dateInput, 5, '0', '1') && isDigit(dateInput, 6, '0', '9') && isSeparator(dateInput.charAt(7)) && isDigit(dateInput, 8, '0', '3') && isDigit(dateInput, 9, '0', '9')) {
+            return buildDate(dateInput, dateInput.charAt(5), dateInput.charAt(6), dateInput.charAt(7), dateInput.charAt(8), dateInput.charAt(9));
         }
         return null;
     }
+
+    private static String buildDate(String dateInput, char month1, char month2, char separator, char day1, char day2) {
+        char[] date = new char[10];
+        dateInput.getChars(0, 4, date, 0);
+        date[4] = dashed(dateInput.charAt(4));
+        date[5] = month1;
+        date[6] = month2;
+        date[7] = dashed(separator);
+        date[8] = day1;
+        date[9] = day2;
+        return new String(date);
+    }
+
+    private static boolean hasYear(String dateInput) {
+        return dateInput.length() >= 4 && isDigit(dateInput, 0, '0', '9') && isDigit(dateInput, 1, '0', '9') && isDigit(dateInput, 2, '0', '9') && isDigit(dateInput, 3, '0', '9');
+    }
+
+    private static boolean isDigit(String dateInput, int index, char from, char to) {
+        char c = dateInput.charAt(index);
+        return c >= from && c <= to;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c != '\n' && c != '\r' && c != '\u0085' && c != '\u2028' && c != '\u2029';
+    }
+
+    private static char dashed(char separator) {
+        return separator == '.' ? '-' : separator;
+    }
 }
@@ -0,0 +1,119 @@
+package com.radek.databasewithcsv.database;
+
+import com.radek.databasewithcsv.config.CacheProperties;
+import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.CacheStatistics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AppUserCache {
+
+    private Logger log = LoggerFactory.getLogger(AppUserCache.class);
+
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, CachedAppUser> entries;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    @Autowired
+    public AppUserCache(CacheProperties cacheProperties) {
+        this(cacheProperties.getMaxSize(), cacheProperties.getTimeToLive(), System::nanoTime);
+    }
+
+    AppUserCache(int maxSize, Duration timeToLive, LongSupplier nanoClock) {
+        if (maxSize < 0 || timeToLive == null || timeToLive.isNegative()) {
+            log.error("Attempt to create app user cache with negative size or time to live");
+            throw new IllegalArgumentException("Cache size and time to live cannot be negative");
+        }
+        this.maxSize = maxSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedAppUser> eldest) {
+                if (size() > AppUserCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Optional<AppUser> get(Long id) {
+        CachedAppUser cachedAppUser = entries.get(id);
+        if (cachedAppUser != null && nanoClock.getAsLong() - cachedAppUser.expiresAt >= 0) {
+            entries.remove(id);
+            evictions++;
+            cachedAppUser = null;
+        }
+        if (cachedAppUser == null) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(cachedAppUser.appUser);
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void put(Long id, AppUser appUser, long expectedGeneration) {
+        if (maxSize == 0 || generation != expectedGeneration) {
+            return;
+        }
+        entries.put(id, new CachedAppUser(appUser, nanoClock.getAsLong() + timeToLiveNanos));
+    }
+
+    public synchronized void invalidate(Long id) {
+        generation++;
+        entries.remove(id);
+    }
+
+    public synchronized void invalidate(Collection<Long> ids) {
+        generation++;
+        for (Long id : ids) {
+            entries.remove(id);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized CacheStatistics getStatistics() {
+        return CacheStatistics.builder()
+            .withHits(hits)
+            .withMisses(misses)
+            .withEvictions(evictions)
+            .withSize(entries.size())
+            .build();
+    }
+
+    private static class CachedAppUser {
+        private final AppUser appUser;
+        private final long expiresAt;
+
+        CachedAppUser(AppUser appUser, long expiresAt) {
+            this.appUser = appUser;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
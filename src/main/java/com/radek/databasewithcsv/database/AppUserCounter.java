@@ -0,0 +1,95 @@
+package com.radek.databasewithcsv.database;
+
+import com.radek.databasewithcsv.config.CacheProperties;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AppUserCounter {
+
+    private static final long UNKNOWN = -1;
+
+    private Logger log = LoggerFactory.getLogger(AppUserCounter.class);
+
+    private final long reconciliationIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final ReadWriteLock writesLock = new ReentrantReadWriteLock();
+    private long count = UNKNOWN;
+    private long reconciledAt;
+
+    @Autowired
+    public AppUserCounter(CacheProperties cacheProperties) {
+        this(cacheProperties.getCountReconciliationInterval(), System::nanoTime);
+    }
+
+    AppUserCounter(Duration reconciliationInterval, LongSupplier nanoClock) {
+        if (reconciliationInterval == null || reconciliationInterval.isNegative()) {
+            log.error("Attempt to create app user counter with negative reconciliation interval");
+            throw new IllegalArgumentException("Reconciliation interval cannot be negative");
+        }
+        this.reconciliationIntervalNanos = reconciliationInterval.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized OptionalLong get() {
+        if (count == UNKNOWN || nanoClock.getAsLong() - reconciledAt >= reconciliationIntervalNanos) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(count);
+    }
+
+    public void writeStarted() {
+        writesLock.readLock().lock();
+    }
+
+    public void writeFinished() {
+        writesLock.readLock().unlock();
+    }
+
+    public long reconcile(LongSupplier countQuery) {
+        if (countQuery == null) {
+            log.error("Attempt to reconcile number of app users without count query");
+            throw new IllegalArgumentException("Count query cannot be null");
+        }
+        writesLock.writeLock().lock();
+        try {
+            long actualCount = countQuery.getAsLong();
+            synchronized (this) {
+                if (count != UNKNOWN && count != actualCount) {
+                    log.warn("Number of app users drifted from {} to {} since last reconciliation", count, actualCount);
+                }
+                count = actualCount;
+                reconciledAt = nanoClock.getAsLong();
+            }
+            return actualCount;
+        } finally {
+            writesLock.writeLock().unlock();
+        }
+    }
+
+    public synchronized void added(long addedCount) {
+        if (count != UNKNOWN) {
+            count += addedCount;
+        }
+    }
+
+    public synchronized void removed(long removedCount) {
+        if (count != UNKNOWN) {
+            count = Math.max(count - removedCount, 0);
+        }
+    }
+
+    public synchronized void cleared() {
+        count = 0;
+        reconciledAt = nanoClock.getAsLong();
+    }
+}
@@ -1,34 +1,93 @@
 package com.radek.databasewithcsv.database;
 
 import com.radek.databasewithcsv.database.sql.model.AppUser;
+import com.radek.databasewithcsv.database.sql.model.AppUserView;
+import com.radek.databasewithcsv.database.sql.model.ImportCheckpoint;
+import com.radek.databasewithcsv.database.sql.model.IndexedAppUserView;
 import com.radek.databasewithcsv.database.sql.model.SqlModelMapper;
+import com.radek.databasewithcsv.model.AppUserFilter;
+import com.radek.databasewithcsv.model.AppUserSlice;
+import com.radek.databasewithcsv.model.AppUserSortField;
+import com.radek.databasewithcsv.model.CacheStatistics;
+import com.radek.databasewithcsv.model.ContinuationToken;
+import com.radek.databasewithcsv.model.DeletionSummary;
+import com.radek.databasewithcsv.model.ImportMode;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Repository
 public class AppUserDatabase implements Database {
 
+    private static final int PAGE_SIZE = 5;
+    private static final int INDEX_LOAD_BATCH_SIZE = 10000;
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final AppUserRepository appUserRepository;
     private Logger log = LoggerFactory.getLogger(AppUserDatabase.class);
     private SqlModelMapper sqlModelMapper;
+    private final LastNameIndex lastNameIndex;
+    private final AppUserCache appUserCache;
+    private final PhoneNumberIndex phoneNumberIndex;
+    private final AppUserCounter appUserCounter;
+    private final ImportCheckpointRepository importCheckpointRepository;
 
-    public AppUserDatabase(AppUserRepository appUserRepository, SqlModelMapper sqlModelMapper) {
+    public AppUserDatabase(AppUserRepository appUserRepository, SqlModelMapper sqlModelMapper, LastNameIndex lastNameIndex, AppUserCache appUserCache, PhoneNumberIndex phoneNumberIndex,
+        AppUserCounter appUserCounter, ImportCheckpointRepository importCheckpointRepository) {
         this.appUserRepository = appUserRepository;
         this.sqlModelMapper = sqlModelMapper;
+        this.lastNameIndex = lastNameIndex;
+        this.appUserCache = appUserCache;
+        this.phoneNumberIndex = phoneNumberIndex;
+        this.appUserCounter = appUserCounter;
+        this.importCheckpointRepository = importCheckpointRepository;
+    }
+
+    @PostConstruct
+    public void loadIndexes() {
+        lastNameIndex.clear();
+        phoneNumberIndex.clear();
+        long lastId = Long.MIN_VALUE;
+        List<IndexedAppUserView> indexedAppUsers;
+        do {
+            indexedAppUsers = appUserRepository.findIndexedAppUsersAfter(lastId, PageRequest.of(0, INDEX_LOAD_BATCH_SIZE));
+            for (IndexedAppUserView indexedAppUser : indexedAppUsers) {
+                lastNameIndex.add(indexedAppUser.getId(), indexedAppUser.getLastName());
+                phoneNumberIndex.add(indexedAppUser.getId(), indexedAppUser.getPhoneNumber());
+                lastId = indexedAppUser.getId();
+            }
+        } while (indexedAppUsers.size() == INDEX_LOAD_BATCH_SIZE);
+        log.info("Loaded last names and phone numbers of app users into indexes");
     }
 
     @Override
@@ -37,37 +96,206 @@ public class AppUserDatabase implements Database {
             log.error("Attempt to save empty collection of users");
             throw new IllegalArgumentException("List of app users cannot be null");
         }
+        appUserCounter.writeStarted();
         try {
             List<AppUser> sqlAppUsers = appUsers.stream().map(appUser -> sqlModelMapper.toSqlAppUser(appUser)).collect(Collectors.toList());
+            Set<String> acceptedPhoneNumbers = new HashSet<>();
             List<AppUser> sqlValidatedAppUsers = new ArrayList<>();
             for (AppUser appUser : sqlAppUsers) {
-                if (appUser.getPhoneNumber().length() == 0 || !appUserRepository.existsByPhoneNumber(appUser.getPhoneNumber())) {
+                String phoneNumber = appUser.getPhoneNumber();
+                if (phoneNumber == null || (!phoneNumberIndex.contains(phoneNumber) && acceptedPhoneNumbers.add(phoneNumber))) {
                     sqlValidatedAppUsers.add(appUser);
-                } else {
-                    log.error("User {} cannot be saved in database since his phone number is not unique", appUser.getFirstName() + " " + appUser.getLastName());
                 }
             }
+            if (sqlValidatedAppUsers.size() < sqlAppUsers.size()) {
+                log.error("{} users cannot be saved in database since their phone numbers are not unique", sqlAppUsers.size() - sqlValidatedAppUsers.size());
+            }
             List<AppUser> savedAppUsers = appUserRepository.saveAll(sqlValidatedAppUsers);
+            appUserRepository.flush();
+            afterCommit(() -> {
+                List<Long> savedIds = new ArrayList<>(savedAppUsers.size());
+                for (AppUser appUser : savedAppUsers) {
+                    if (appUser.getId() != null) {
+                        lastNameIndex.add(appUser.getId(), appUser.getLastName());
+                        phoneNumberIndex.add(appUser.getId(), appUser.getPhoneNumber());
+                        savedIds.add(appUser.getId());
+                    }
+                }
+                appUserCounter.added(savedAppUsers.size());
+                appUserCache.invalidate(savedIds);
+            });
             return savedAppUsers.stream().map(appUser -> sqlModelMapper.toAppUser(appUser)).collect(Collectors.toList());
         } catch (NonTransientDataAccessException e) {
             String message = "An error occurred during saving collection of users.";
             log.error(message, e);
             throw new DatabaseOperationException(message, e);
+        } finally {
+            appUserCounter.writeFinished();
+        }
+    }
+
+    @Override
+    @Transactional(rollbackFor = DatabaseOperationException.class)
+    public Collection<com.radek.databasewithcsv.model.AppUser> upsertAll(Collection<com.radek.databasewithcsv.model.AppUser> appUsers) throws DatabaseOperationException {
+        if (appUsers == null) {
+            log.error("Attempt to upsert empty collection of users");
+            throw new IllegalArgumentException("List of app users cannot be null");
+        }
+        appUserCounter.writeStarted();
+        try {
+            List<AppUser> sqlAppUsers = appUsers.stream().map(appUser -> sqlModelMapper.toSqlAppUser(appUser)).collect(Collectors.toList());
+            Map<String, AppUser> appUsersByPhoneNumber = new LinkedHashMap<>();
+            List<AppUser> insertedAppUsers = new ArrayList<>();
+            for (AppUser appUser : sqlAppUsers) {
+                if (appUser.getPhoneNumber() == null) {
+                    insertedAppUsers.add(appUser);
+                } else {
+                    appUsersByPhoneNumber.put(appUser.getPhoneNumber(), appUser);
+                }
+            }
+            List<AppUser> updatedAppUsers = new ArrayList<>();
+            List<Long> updatedIds = new ArrayList<>();
+            for (AppUser appUser : appUsersByPhoneNumber.values()) {
+                OptionalLong id = phoneNumberIndex.findId(appUser.getPhoneNumber());
+                if (id.isPresent()) {
+                    updatedAppUsers.add(appUser);
+                    updatedIds.add(id.getAsLong());
+                } else {
+                    insertedAppUsers.add(appUser);
+                }
+            }
+            int[] updateCounts = appUserRepository.updateByPhoneNumber(updatedAppUsers);
+            Map<String, Long> idsByPhoneNumber = new HashMap<>();
+            for (int i = 0; i < updatedAppUsers.size(); i++) {
+                if (updateCounts[i] == 0) {
+                    insertedAppUsers.add(updatedAppUsers.get(i));
+                } else {
+                    idsByPhoneNumber.put(updatedAppUsers.get(i).getPhoneNumber(), updatedIds.get(i));
+                }
+            }
+            List<AppUser> savedAppUsers = appUserRepository.saveAll(insertedAppUsers);
+            appUserRepository.flush();
+            Map<AppUser, Long> idsByAppUserWithoutPhoneNumber = new IdentityHashMap<>();
+            for (int i = 0; i < savedAppUsers.size(); i++) {
+                Long id = savedAppUsers.get(i).getId();
+                String phoneNumber = savedAppUsers.get(i).getPhoneNumber();
+                if (phoneNumber == null) {
+                    idsByAppUserWithoutPhoneNumber.put(insertedAppUsers.get(i), id);
+                } else {
+                    idsByPhoneNumber.put(phoneNumber, id);
+                }
+            }
+            List<com.radek.databasewithcsv.model.AppUser> upsertedAppUsers = new ArrayList<>(sqlAppUsers.size());
+            Map<Long, String> lastNamesById = new LinkedHashMap<>();
+            for (AppUser appUser : sqlAppUsers) {
+                if (appUser.getPhoneNumber() != null && appUsersByPhoneNumber.get(appUser.getPhoneNumber()) != appUser) {
+                    continue;
+                }
+                Long id = appUser.getPhoneNumber() == null ? idsByAppUserWithoutPhoneNumber.get(appUser) : idsByPhoneNumber.get(appUser.getPhoneNumber());
+                if (id != null) {
+                    lastNamesById.put(id, appUser.getLastName());
+                }
+                upsertedAppUsers.add(sqlModelMapper.toAppUser(withId(appUser, id)));
+            }
+            afterCommit(() -> {
+                for (AppUser appUser : savedAppUsers) {
+                    if (appUser.getId() != null) {
+                        phoneNumberIndex.add(appUser.getId(), appUser.getPhoneNumber());
+                    }
+                }
+                lastNamesById.forEach(lastNameIndex::add);
+                appUserCounter.added(savedAppUsers.size());
+                appUserCache.invalidate(lastNamesById.keySet());
+            });
+            return upsertedAppUsers;
+        } catch (NonTransientDataAccessException e) {
+            String message = "An error occurred during upserting collection of users.";
+            log.error(message, e);
+            throw new DatabaseOperationException(message, e);
+        } finally {
+            appUserCounter.writeFinished();
+        }
+    }
+
+    @Override
+    @Transactional(rollbackFor = DatabaseOperationException.class)
+    public Collection<com.radek.databasewithcsv.model.AppUser> saveChunk(Collection<com.radek.databasewithcsv.model.AppUser> appUsers, ImportMode mode, String fileHash, long lineNumber)
+        throws DatabaseOperationException {
+        if (appUsers == null || mode == null) {
+            log.error("Attempt to save chunk of users providing null users or import mode");
+            throw new IllegalArgumentException("List of app users and import mode cannot be null");
+        }
+        if (fileHash == null || lineNumber < 1) {
+            log.error("Attempt to save chunk of users providing null file hash or non-positive line number");
+            throw new IllegalArgumentException("File hash cannot be null and line number must be greater than zero");
+        }
+        try {
+            importCheckpointRepository.saveAndFlush(ImportCheckpoint.builder()
+                .withFileHash(fileHash)
+                .withLineNumber(lineNumber)
+                .build());
+        } catch (NonTransientDataAccessException e) {
+            String message = "An error occurred during saving import checkpoint.";
+            log.error(message, e);
+            throw new DatabaseOperationException(message, e);
+        }
+        return mode == ImportMode.UPSERT ? upsertAll(appUsers) : saveAll(appUsers);
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
+    public OptionalLong getImportCheckpoint(String fileHash) throws DatabaseOperationException {
+        if (fileHash == null) {
+            log.error("Attempt to get import checkpoint providing null file hash");
+            throw new IllegalArgumentException("File hash cannot be null");
+        }
+        try {
+            Optional<ImportCheckpoint> importCheckpoint = importCheckpointRepository.findById(fileHash);
+            return importCheckpoint.isPresent() ? OptionalLong.of(importCheckpoint.get().getLineNumber()) : OptionalLong.empty();
+        } catch (NonTransientDataAccessException e) {
+            String message = "An error occurred during getting import checkpoint.";
+            log.error(message, e);
+            throw new DatabaseOperationException(message, e);
         }
     }
 
     @Override
+    public void deleteImportCheckpoint(String fileHash) throws DatabaseOperationException {
+        if (fileHash == null) {
+            log.error("Attempt to delete import checkpoint providing null file hash");
+            throw new IllegalArgumentException("File hash cannot be null");
+        }
+        try {
+            if (importCheckpointRepository.existsById(fileHash)) {
+                importCheckpointRepository.deleteById(fileHash);
+            }
+        } catch (NonTransientDataAccessException e) {
+            String message = "An error occurred during deleting import checkpoint.";
+            log.error(message, e);
+            throw new DatabaseOperationException(message, e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
     public Optional<com.radek.databasewithcsv.model.AppUser> getById(Long id) throws DatabaseOperationException {
         if (id == null) {
             log.error("Attempt to provide null id");
             throw new IllegalArgumentException("Id cannot be null.");
         }
+        Optional<com.radek.databasewithcsv.model.AppUser> cachedAppUser = appUserCache.get(id);
+        if (cachedAppUser.isPresent()) {
+            return cachedAppUser;
+        }
         try {
-            Optional<AppUser> foundAppUser = appUserRepository.findById(id);
+            long cacheGeneration = appUserCache.generation();
+            Optional<AppUserView> foundAppUser = appUserRepository.findAppUserViewById(id);
             if (foundAppUser.isEmpty()) {
                 return Optional.empty();
             }
-            return Optional.of(sqlModelMapper.toAppUser(foundAppUser.get()));
+            com.radek.databasewithcsv.model.AppUser appUser = sqlModelMapper.toAppUser(foundAppUser.get());
+            appUserCache.put(id, appUser, cacheGeneration);
+            return Optional.of(appUser);
         } catch (NonTransientDataAccessException e) {
             String message = "An error occurred during getting app user by id.";
             log.error(message, e);
@@ -76,14 +304,34 @@ public class AppUserDatabase implements Database {
     }
 
     @Override
-    public Collection<com.radek.databasewithcsv.model.AppUser> getByLastName(String lastName) throws DatabaseOperationException {
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
+    public Collection<com.radek.databasewithcsv.model.AppUser> getByLastName(String lastName, int limit) throws DatabaseOperationException {
+        return getByLastNameAfter(lastName, null, limit, false).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
+    public AppUserSlice getByLastNameAfter(String lastName, ContinuationToken continuationToken, int pageSize, boolean withTotalCount) throws DatabaseOperationException {
         if (lastName == null) {
             log.error("Attempt to provide empty last name");
             throw new IllegalArgumentException("Last name cannot be null.");
         }
+        if (pageSize <= 0) {
+            log.error("Attempt to search app users by last name with non-positive limit");
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
         try {
-            Collection<AppUser> appUsersWithLastName = appUserRepository.findAllByLastNameIgnoreCaseContaining(lastName);
-            return appUsersWithLastName.stream().map(appUser -> sqlModelMapper.toAppUser(appUser)).collect(Collectors.toList());
+            List<Long> ids = lastNameIndex.search(lastName, continuationToken == null ? null : continuationToken.getId(), pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1);
+            String nextToken = null;
+            if (ids.size() > pageSize) {
+                ids = ids.subList(0, pageSize);
+                nextToken = ContinuationToken.of(ids.get(pageSize - 1)).encode();
+            }
+            return AppUserSlice.builder()
+                .withContent(findAllByIdInOrder(ids))
+                .withNextToken(nextToken)
+                .withTotalCount(withTotalCount ? Long.valueOf(lastNameIndex.count(lastName)) : null)
+                .build();
         } catch (NonTransientDataAccessException e) {
             String message = "An error occurred during getting app users by last name.";
             log.error(message, e);
@@ -92,26 +340,38 @@ public class AppUserDatabase implements Database {
     }
 
     @Override
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
     public Page<com.radek.databasewithcsv.model.AppUser> getAppUsers() throws DatabaseOperationException {
-        try {
-            Page<AppUser> appUsers = appUserRepository.findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")));
-            return appUsers.map(appUser -> sqlModelMapper.toAppUser(appUser));
-        } catch (NonTransientDataAccessException e) {
-            String message = "An error occurred during getting first page of app users";
-            log.error(message, e);
-            throw new DatabaseOperationException(message, e);
-        }
+        return getAppUsers(0, PAGE_SIZE, AppUserSortField.BIRTH_DATE, Direction.DESC);
     }
 
     @Override
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
     public Page<com.radek.databasewithcsv.model.AppUser> getAppUsers(Integer pageNumber) throws DatabaseOperationException {
+        return getAppUsers(pageNumber, PAGE_SIZE, AppUserSortField.BIRTH_DATE, Direction.DESC);
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
+    public Page<com.radek.databasewithcsv.model.AppUser> getAppUsers(Integer pageNumber, int pageSize, AppUserSortField sortField, Direction direction) throws DatabaseOperationException {
         if (pageNumber == null) {
             log.error("Attempt to receive page of users without indicating page number");
             throw new IllegalArgumentException("Page number cannot be null");
         }
+        if (pageSize <= 0) {
+            log.error("Attempt to receive page of users with non-positive page size");
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        if (sortField == null || direction == null) {
+            log.error("Attempt to receive page of users without indicating sort field or direction");
+            throw new IllegalArgumentException("Sort field and direction cannot be null");
+        }
         try {
-            Page<AppUser> appUsers = appUserRepository.findAll(PageRequest.of(pageNumber, 5, Sort.by(Sort.Direction.DESC, "birthDate")));
-            return appUsers.map(appUser -> sqlModelMapper.toAppUser(appUser));
+            PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, sortBy(sortField, direction));
+            List<com.radek.databasewithcsv.model.AppUser> appUsers = appUserRepository.findPage(pageRequest).stream()
+                .map(appUser -> sqlModelMapper.toAppUser(appUser))
+                .collect(Collectors.toList());
+            return new PageImpl<>(appUsers, pageRequest, countAppUsers());
         } catch (NonTransientDataAccessException e) {
             String message = "An error occurred during getting page of app users";
             log.error(message, e);
@@ -120,14 +380,44 @@ public class AppUserDatabase implements Database {
     }
 
     @Override
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
+    public AppUserSlice getAppUsersAfter(ContinuationToken continuationToken, boolean withTotalCount) throws DatabaseOperationException {
+        if (continuationToken != null && !continuationToken.hasBirthDate()) {
+            log.error("Attempt to receive slice of users providing continuation token without birth date");
+            throw new IllegalArgumentException("Continuation token has to contain birth date");
+        }
+        try {
+            PageRequest limit = PageRequest.of(0, PAGE_SIZE + 1);
+            List<AppUserView> appUsers = continuationToken == null
+                ? appUserRepository.findFirstSeekPage(limit)
+                : appUserRepository.findSeekPageAfter(continuationToken.getBirthDate(), continuationToken.getId(), limit);
+            String nextToken = null;
+            if (appUsers.size() > PAGE_SIZE) {
+                appUsers = appUsers.subList(0, PAGE_SIZE);
+                AppUserView lastAppUser = appUsers.get(PAGE_SIZE - 1);
+                nextToken = ContinuationToken.of(lastAppUser.getBirthDate(), lastAppUser.getId()).encode();
+            }
+            return AppUserSlice.builder()
+                .withContent(appUsers.stream().map(appUser -> sqlModelMapper.toAppUser(appUser)).collect(Collectors.toList()))
+                .withNextToken(nextToken)
+                .withTotalCount(withTotalCount ? countAppUsers() : null)
+                .build();
+        } catch (NonTransientDataAccessException e) {
+            String message = "An error occurred during getting slice of app users";
+            log.error(message, e);
+            throw new DatabaseOperationException(message, e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
     public Optional<com.radek.databasewithcsv.model.AppUser> getOldestAppUserWithPhoneNumber() throws DatabaseOperationException {
         try {
-            List<AppUser> appUsers = appUserRepository.findAll(Sort.by(Direction.ASC, "birthDate"));
+            List<AppUserView> appUsers = appUserRepository.findOldestWithPhoneNumber(PageRequest.of(0, 1));
             if (appUsers.isEmpty()) {
                 return Optional.empty();
             }
-            AppUser oldestAppUser = appUsers.stream().filter(appUser -> !appUser.getPhoneNumber().equals("")).collect(Collectors.toList()).get(0);
-            return Optional.of(sqlModelMapper.toAppUser(oldestAppUser));
+            return Optional.of(sqlModelMapper.toAppUser(appUsers.get(0)));
         } catch (NonTransientDataAccessException e) {
             String message = "An error occurred during getting the oldest app user";
             log.error(message, e);
@@ -136,53 +426,142 @@ public class AppUserDatabase implements Database {
     }
 
     @Override
-    public void delete(Long id) throws DatabaseOperationException {
+    @Transactional(readOnly = true, rollbackFor = DatabaseOperationException.class)
+    public <E extends Exception> long forEachAppUser(AppUserFilter filter, AppUserHandler<E> handler) throws DatabaseOperationException, E {
+        if (filter == null || handler == null) {
+            log.error("Attempt to iterate over app users without filter or handler");
+            throw new IllegalArgumentException("Filter and handler cannot be null");
+        }
+        String lastNamePattern = filter.getLastName() == null ? null : "%" + escapeLikePattern(filter.getLastName().toUpperCase(Locale.ROOT)) + "%";
+        try (Stream<AppUserView> appUsers = appUserRepository.streamAppUsers(lastNamePattern, filter.getBornFrom(), filter.getBornTo())) {
+            long handledCount = 0;
+            Iterator<AppUserView> iterator = appUsers.iterator();
+            while (iterator.hasNext()) {
+                handler.handle(sqlModelMapper.toAppUser(iterator.next()));
+                handledCount++;
+            }
+            return handledCount;
+        } catch (NonTransientDataAccessException e) {
+            String message = "An error occurred during iterating over app users.";
+            log.error(message, e);
+            throw new DatabaseOperationException(message, e);
+        }
+    }
+
+    @Override
+    public boolean delete(Long id) throws DatabaseOperationException {
         if (id == null) {
             log.error("Attempt to delete app user providing null id.");
             throw new IllegalArgumentException("Id cannot be null.");
         }
-        if (!appUserRepository.existsById(id)) {
-            log.error("Attempt to delete non-existing app user.");
-            throw new DatabaseOperationException(String.format("There was no app user in database with id: %s", id));
-        }
+        appUserCounter.writeStarted();
         try {
-            appUserRepository.deleteById(id);
-        } catch (NonTransientDataAccessException | NoSuchElementException e) {
+            if (appUserRepository.deleteAppUserById(id) == 0) {
+                log.error("Attempt to delete non-existing app user.");
+                return false;
+            }
+            lastNameIndex.remove(id);
+            phoneNumberIndex.remove(id);
+            appUserCounter.removed(1);
+            appUserCache.invalidate(id);
+            return true;
+        } catch (NonTransientDataAccessException e) {
             String message = "An error occurred during deleting app user.";
             log.error(message, e);
             throw new DatabaseOperationException(message, e);
+        } finally {
+            appUserCounter.writeFinished();
         }
     }
 
     @Override
     public void deleteAll() throws DatabaseOperationException {
+        appUserCounter.writeStarted();
         try {
-            appUserRepository.deleteAll();
+            appUserRepository.deleteAllInBatch();
+            lastNameIndex.clear();
+            phoneNumberIndex.clear();
+            appUserCounter.cleared();
+            appUserCache.invalidateAll();
         } catch (NonTransientDataAccessException e) {
             String message = "An error occurred during deleting all app users.";
             log.error(message, e);
             throw new DatabaseOperationException(message, e);
+        } finally {
+            appUserCounter.writeFinished();
         }
     }
 
     @Override
-    public long count() throws DatabaseOperationException {
+    @Transactional(rollbackFor = DatabaseOperationException.class)
+    public DeletionSummary deleteByIds(Collection<Long> ids) throws DatabaseOperationException {
+        if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+            log.error("Attempt to delete app users providing null ids.");
+            throw new IllegalArgumentException("Ids cannot be null.");
+        }
+        List<Long> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+        List<Long> missingIds = new ArrayList<>();
+        long deletedCount = 0;
         try {
-            return appUserRepository.count();
+            for (int from = 0; from < distinctIds.size(); from += DELETE_BATCH_SIZE) {
+                List<Long> batch = distinctIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, distinctIds.size()));
+                Set<Long> existingIds = new HashSet<>(appUserRepository.findExistingIds(batch));
+                List<Long> idsToDelete = new ArrayList<>(existingIds.size());
+                for (Long id : batch) {
+                    if (existingIds.contains(id)) {
+                        idsToDelete.add(id);
+                    } else {
+                        missingIds.add(id);
+                    }
+                }
+                if (!idsToDelete.isEmpty()) {
+                    deletedCount += deleteBatch(idsToDelete);
+                }
+            }
+            return DeletionSummary.builder()
+                .withDeletedCount(deletedCount)
+                .withMissingIds(missingIds)
+                .build();
         } catch (NonTransientDataAccessException e) {
-            String message = "An error occurred during getting number of app users.";
+            String message = "An error occurred during deleting app users by ids, no app users were deleted.";
             log.error(message, e);
             throw new DatabaseOperationException(message, e);
         }
     }
 
     @Override
-    public boolean existsByPhoneNumber(String phoneNumber) throws DatabaseOperationException {
-        if (phoneNumber == null || phoneNumber.length() == 0) {
-            return false;
+    public long deleteByIdRange(Long fromId, Long toId) throws DatabaseOperationException {
+        if (fromId == null || toId == null) {
+            log.error("Attempt to delete app users providing null id range.");
+            throw new IllegalArgumentException("Id range cannot be null.");
+        }
+        if (fromId > toId) {
+            log.error("Attempt to delete app users providing id range with start greater than end.");
+            throw new IllegalArgumentException("Start of id range cannot be greater than its end.");
         }
+        long deletedCount = 0;
         try {
-            return appUserRepository.existsByPhoneNumber(phoneNumber);
+            long nextId = fromId;
+            List<Long> ids;
+            do {
+                ids = appUserRepository.findIdsBetween(nextId, toId, PageRequest.of(0, DELETE_BATCH_SIZE));
+                if (!ids.isEmpty()) {
+                    deletedCount += deleteBatch(ids);
+                    nextId = ids.get(ids.size() - 1) + 1;
+                }
+            } while (ids.size() == DELETE_BATCH_SIZE && nextId <= toId && nextId != Long.MIN_VALUE);
+            return deletedCount;
+        } catch (NonTransientDataAccessException e) {
+            String message = String.format("An error occurred during deleting app users by id range, %d app users were deleted.", deletedCount);
+            log.error(message, e);
+            throw new DatabaseOperationException(message, e);
+        }
+    }
+
+    @Override
+    public long count() throws DatabaseOperationException {
+        try {
+            return countAppUsers();
         } catch (NonTransientDataAccessException e) {
             String message = "An error occurred during getting number of app users.";
             log.error(message, e);
@@ -190,6 +569,11 @@ public class AppUserDatabase implements Database {
         }
     }
 
+    @Override
+    public boolean existsByPhoneNumber(String phoneNumber) {
+        return phoneNumberIndex.contains(phoneNumber);
+    }
+
     @Override
     public boolean existsById(Long id) throws DatabaseOperationException {
         if (id == null) {
@@ -204,4 +588,97 @@ public class AppUserDatabase implements Database {
             throw new DatabaseOperationException(message, e);
         }
     }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return appUserCache.getStatistics();
+    }
+
+    private int deleteBatch(List<Long> ids) {
+        appUserCounter.writeStarted();
+        try {
+            int deletedCount = appUserRepository.deleteAppUsersByIdIn(ids);
+            afterCommit(() -> {
+                for (Long id : ids) {
+                    lastNameIndex.remove(id);
+                    phoneNumberIndex.remove(id);
+                }
+                appUserCounter.removed(deletedCount);
+                appUserCache.invalidate(ids);
+            });
+            return deletedCount;
+        } finally {
+            appUserCounter.writeFinished();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                appUserCounter.writeStarted();
+                committing = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (committing) {
+                    committing = false;
+                    appUserCounter.writeFinished();
+                }
+            }
+        });
+    }
+
+    private long countAppUsers() {
+        OptionalLong count = appUserCounter.get();
+        if (count.isPresent()) {
+            return count.getAsLong();
+        }
+        return appUserCounter.reconcile(appUserRepository::count);
+    }
+
+    private List<com.radek.databasewithcsv.model.AppUser> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, AppUserView> appUsers = appUserRepository.findAppUserViewsByIdIn(ids).stream().collect(Collectors.toMap(AppUserView::getId, Function.identity()));
+        return ids.stream()
+            .map(appUsers::get)
+            .filter(Objects::nonNull)
+            .map(appUser -> sqlModelMapper.toAppUser(appUser))
+            .collect(Collectors.toList());
+    }
+
+    private static AppUser withId(AppUser appUser, Long id) {
+        return AppUser.builder()
+            .withId(id)
+            .withFirstName(appUser.getFirstName())
+            .withLastName(appUser.getLastName())
+            .withBirthDate(appUser.getBirthDate())
+            .withPhoneNumber(appUser.getPhoneNumber())
+            .build();
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Sort sortBy(AppUserSortField sortField, Direction direction) {
+        if (sortField == AppUserSortField.ID) {
+            return Sort.by(direction, AppUserSortField.ID.getProperty());
+        }
+        return Sort.by(direction, sortField.getProperty(), AppUserSortField.ID.getProperty());
+    }
 }
@@ -0,0 +1,9 @@
+package com.radek.databasewithcsv.database;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+@FunctionalInterface
+public interface AppUserHandler<E extends Exception> {
+
+    void handle(AppUser appUser) throws E;
+}
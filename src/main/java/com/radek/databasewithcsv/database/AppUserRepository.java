@@ -1,15 +1,74 @@
 package com.radek.databasewithcsv.database;
 
 import com.radek.databasewithcsv.database.sql.model.AppUser;
+import com.radek.databasewithcsv.database.sql.model.AppUserView;
+import com.radek.databasewithcsv.database.sql.model.IndexedAppUserView;
 
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface AppUserRepository extends JpaRepository<AppUser, Long>, JpaSpecificationExecutor<AppUser> {
+public interface AppUserRepository extends JpaRepository<AppUser, Long>, JpaSpecificationExecutor<AppUser>, AppUserRepositoryCustom {
 
-    Collection<AppUser> findAllByLastNameIgnoreCaseContaining(String lastName);
+    String SELECT_APP_USER_VIEW = "select a.id as id, a.firstName as firstName, a.lastName as lastName, a.birthDate as birthDate, a.phoneNumber as phoneNumber from AppUser a";
 
-    boolean existsByPhoneNumber(String phoneNumber);
+    @Query(SELECT_APP_USER_VIEW + " where a.id = :id")
+    Optional<AppUserView> findAppUserViewById(@Param("id") Long id);
+
+    @Query(SELECT_APP_USER_VIEW + " where a.id in :ids")
+    List<AppUserView> findAppUserViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_APP_USER_VIEW)
+    List<AppUserView> findPage(Pageable pageable);
+
+    @Query(SELECT_APP_USER_VIEW + " where a.phoneNumber is not null and a.phoneNumber <> '' order by a.birthDate asc, a.id asc")
+    List<AppUserView> findOldestWithPhoneNumber(Pageable pageable);
+
+    @Query(SELECT_APP_USER_VIEW + " order by a.birthDate desc, a.id desc")
+    List<AppUserView> findFirstSeekPage(Pageable pageable);
+
+    @Query(SELECT_APP_USER_VIEW + " where a.birthDate < :birthDate or (a.birthDate = :birthDate and a.id < :id) order by a.birthDate desc, a.id desc")
+    List<AppUserView> findSeekPageAfter(@Param("birthDate") LocalDate birthDate, @Param("id") Long id, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from AppUser a where a.id = :id")
+    int deleteAppUserById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from AppUser a where a.id in :ids")
+    int deleteAppUsersByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a.id from AppUser a where a.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select a.id from AppUser a where a.id >= :fromId and a.id <= :toId order by a.id")
+    List<Long> findIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_APP_USER_VIEW
+        + " where (:lastNamePattern is null or upper(a.lastName) like :lastNamePattern escape '\\')"
+        + " and (:bornFrom is null or a.birthDate >= :bornFrom)"
+        + " and (:bornTo is null or a.birthDate <= :bornTo)"
+        + " order by a.id")
+    Stream<AppUserView> streamAppUsers(@Param("lastNamePattern") String lastNamePattern, @Param("bornFrom") LocalDate bornFrom, @Param("bornTo") LocalDate bornTo);
+
+    @Query("select a.id as id, a.lastName as lastName, a.phoneNumber as phoneNumber from AppUser a where a.id > :id order by a.id")
+    List<IndexedAppUserView> findIndexedAppUsersAfter(@Param("id") Long id, Pageable pageable);
 }
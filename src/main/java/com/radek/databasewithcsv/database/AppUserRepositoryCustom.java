@@ -0,0 +1,10 @@
+package com.radek.databasewithcsv.database;
+
+import com.radek.databasewithcsv.database.sql.model.AppUser;
+
+import java.util.List;
+
+public interface AppUserRepositoryCustom {
+
+    int[] updateByPhoneNumber(List<AppUser> appUsers);
+}
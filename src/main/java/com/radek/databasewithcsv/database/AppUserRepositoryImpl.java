@@ -0,0 +1,66 @@
+package com.radek.databasewithcsv.database;
+
+import com.radek.databasewithcsv.config.ImportProperties;
+import com.radek.databasewithcsv.database.sql.model.AppUser;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class AppUserRepositoryImpl implements AppUserRepositoryCustom {
+
+    private static final String UPDATE_BY_PHONE_NUMBER = "update app_user set first_name = ?, last_name = ?, birth_date = ? where phone_number = ?";
+
+    private Logger log = LoggerFactory.getLogger(AppUserRepositoryImpl.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    @Autowired
+    public AppUserRepositoryImpl(ImportProperties importProperties) {
+        this(null, importProperties.getBatchSize());
+    }
+
+    AppUserRepositoryImpl(EntityManager entityManager, int batchSize) {
+        if (batchSize <= 0) {
+            log.error("Attempt to create app user repository with non-positive batch size");
+            throw new IllegalArgumentException("Batch size must be greater than zero");
+        }
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int[] updateByPhoneNumber(List<AppUser> appUsers) {
+        if (appUsers.isEmpty()) {
+            return new int[0];
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            int[] updateCounts = new int[appUsers.size()];
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_BY_PHONE_NUMBER)) {
+                for (int from = 0; from < appUsers.size(); from += batchSize) {
+                    List<AppUser> batch = appUsers.subList(from, Math.min(from + batchSize, appUsers.size()));
+                    for (AppUser appUser : batch) {
+                        statement.setString(1, appUser.getFirstName());
+                        statement.setString(2, appUser.getLastName());
+                        statement.setDate(3, Date.valueOf(appUser.getBirthDate()));
+                        statement.setString(4, appUser.getPhoneNumber());
+                        statement.addBatch();
+                    }
+                    int[] batchUpdateCounts = statement.executeBatch();
+                    System.arraycopy(batchUpdateCounts, 0, updateCounts, from, batchUpdateCounts.length);
+                }
+            }
+            return updateCounts;
+        });
+    }
+}
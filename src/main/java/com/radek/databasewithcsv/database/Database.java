@@ -1,33 +1,64 @@
 package com.radek.databasewithcsv.database;
 
 import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.AppUserFilter;
+import com.radek.databasewithcsv.model.AppUserSlice;
+import com.radek.databasewithcsv.model.AppUserSortField;
+import com.radek.databasewithcsv.model.CacheStatistics;
+import com.radek.databasewithcsv.model.ContinuationToken;
+import com.radek.databasewithcsv.model.DeletionSummary;
+import com.radek.databasewithcsv.model.ImportMode;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort.Direction;
 
 public interface Database {
 
     Collection<AppUser> saveAll(Collection<AppUser> appUsers) throws DatabaseOperationException;
 
+    Collection<AppUser> upsertAll(Collection<AppUser> appUsers) throws DatabaseOperationException;
+
+    Collection<AppUser> saveChunk(Collection<AppUser> appUsers, ImportMode mode, String fileHash, long lineNumber) throws DatabaseOperationException;
+
+    OptionalLong getImportCheckpoint(String fileHash) throws DatabaseOperationException;
+
+    void deleteImportCheckpoint(String fileHash) throws DatabaseOperationException;
+
     Optional<AppUser> getById(Long id) throws DatabaseOperationException;
 
-    Collection<AppUser> getByLastName(String lastName) throws DatabaseOperationException;
+    Collection<AppUser> getByLastName(String lastName, int limit) throws DatabaseOperationException;
+
+    AppUserSlice getByLastNameAfter(String lastName, ContinuationToken continuationToken, int pageSize, boolean withTotalCount) throws DatabaseOperationException;
 
     Page<AppUser> getAppUsers() throws DatabaseOperationException;
 
     Page<AppUser> getAppUsers(Integer pageNumber) throws DatabaseOperationException;
 
+    Page<AppUser> getAppUsers(Integer pageNumber, int pageSize, AppUserSortField sortField, Direction direction) throws DatabaseOperationException;
+
+    AppUserSlice getAppUsersAfter(ContinuationToken continuationToken, boolean withTotalCount) throws DatabaseOperationException;
+
     Optional<AppUser> getOldestAppUserWithPhoneNumber() throws DatabaseOperationException;
 
-    void delete(Long id) throws DatabaseOperationException;
+    <E extends Exception> long forEachAppUser(AppUserFilter filter, AppUserHandler<E> handler) throws DatabaseOperationException, E;
+
+    boolean delete(Long id) throws DatabaseOperationException;
 
     void deleteAll() throws DatabaseOperationException;
 
+    DeletionSummary deleteByIds(Collection<Long> ids) throws DatabaseOperationException;
+
+    long deleteByIdRange(Long fromId, Long toId) throws DatabaseOperationException;
+
     long count() throws DatabaseOperationException;
 
     boolean existsByPhoneNumber(String phoneNumber) throws DatabaseOperationException;
 
     boolean existsById(Long id) throws DatabaseOperationException;
+
+    CacheStatistics getCacheStatistics();
 }
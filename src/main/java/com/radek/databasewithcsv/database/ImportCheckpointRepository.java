@@ -0,0 +1,8 @@
+package com.radek.databasewithcsv.database;
+
+import com.radek.databasewithcsv.database.sql.model.ImportCheckpoint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
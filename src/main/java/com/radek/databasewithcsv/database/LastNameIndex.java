@@ -0,0 +1,164 @@
+package com.radek.databasewithcsv.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class LastNameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final ConcurrentNavigableMap<Long, String> lastNames = new ConcurrentSkipListMap<>();
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+
+    public void add(Long id, String lastName) {
+        if (id == null || lastName == null) {
+            throw new IllegalArgumentException("Id and last name cannot be null");
+        }
+        String normalizedLastName = normalize(lastName);
+        String previousLastName = lastNames.put(id, normalizedLastName);
+        if (previousLastName != null) {
+            removePostings(id, previousLastName);
+        }
+        for (String gram : grams(normalizedLastName)) {
+            postings.compute(gram, (key, posting) -> {
+                Posting gramPosting = posting == null ? new Posting() : posting;
+                if (gramPosting.ids.add(id)) {
+                    gramPosting.size++;
+                }
+                return gramPosting;
+            });
+        }
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        String lastName = lastNames.remove(id);
+        if (lastName != null) {
+            removePostings(id, lastName);
+        }
+    }
+
+    public void clear() {
+        lastNames.clear();
+        postings.clear();
+    }
+
+    public List<Long> search(String fragment, Long afterId, int limit) {
+        if (fragment == null) {
+            throw new IllegalArgumentException("Fragment cannot be null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        String normalizedFragment = normalize(fragment);
+        if (normalizedFragment.length() < GRAM_LENGTH) {
+            return scan(normalizedFragment, afterId, limit);
+        }
+        List<Long> ids = new ArrayList<>(Math.min(limit, 1024));
+        for (Long id : candidates(normalizedFragment, afterId)) {
+            String lastName = lastNames.get(id);
+            if (lastName != null && lastName.contains(normalizedFragment)) {
+                ids.add(id);
+                if (ids.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return ids;
+    }
+
+    public int count(String fragment) {
+        if (fragment == null) {
+            throw new IllegalArgumentException("Fragment cannot be null");
+        }
+        String normalizedFragment = normalize(fragment);
+        if (normalizedFragment.isEmpty()) {
+            return lastNames.size();
+        }
+        int count = 0;
+        if (normalizedFragment.length() < GRAM_LENGTH) {
+            for (String lastName : lastNames.values()) {
+                if (lastName.contains(normalizedFragment)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (Long id : candidates(normalizedFragment, null)) {
+            String lastName = lastNames.get(id);
+            if (lastName != null && lastName.contains(normalizedFragment)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<Long> scan(String fragment, Long afterId, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 1024));
+        Map<Long, String> scannedLastNames = afterId == null ? lastNames : lastNames.tailMap(afterId, false);
+        for (Map.Entry<Long, String> lastName : scannedLastNames.entrySet()) {
+            if (lastName.getValue().contains(fragment)) {
+                ids.add(lastName.getKey());
+                if (ids.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Iterable<Long> candidates(String fragment, Long afterId) {
+        Posting rarest = null;
+        for (String gram : grams(fragment)) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            if (rarest == null || posting.size < rarest.size) {
+                rarest = posting;
+            }
+        }
+        return afterId == null ? rarest.ids : rarest.ids.tailSet(afterId, false);
+    }
+
+    private void removePostings(Long id, String lastName) {
+        for (String gram : grams(lastName)) {
+            postings.computeIfPresent(gram, (key, posting) -> {
+                if (posting.ids.remove(id)) {
+                    posting.size--;
+                }
+                return posting.size == 0 ? null : posting;
+            });
+        }
+    }
+
+    private static List<String> grams(String value) {
+        List<String> grams = new ArrayList<>(Math.max(value.length() - GRAM_LENGTH + 1, 0));
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+
+    private static class Posting {
+        private final NavigableSet<Long> ids = new ConcurrentSkipListSet<>();
+        private volatile int size;
+    }
+}
@@ -0,0 +1,197 @@
+package com.radek.databasewithcsv.database;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class PhoneNumberIndex {
+
+    private static final int MAX_ENCODED_DIGITS = 18;
+    private static final long NOT_ENCODED = Long.MIN_VALUE;
+
+    private final LongLongMap idsByPhoneNumber = new LongLongMap();
+    private final LongLongMap phoneNumbersById = new LongLongMap();
+    private final Map<String, Long> idsByOtherPhoneNumber = new HashMap<>();
+    private final Map<Long, String> otherPhoneNumbersById = new HashMap<>();
+
+    public synchronized void add(Long id, String phoneNumber) {
+        if (id == null || id == NOT_ENCODED) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        remove(id);
+        if (phoneNumber == null || phoneNumber.length() == 0) {
+            return;
+        }
+        long encodedPhoneNumber = encode(phoneNumber);
+        if (encodedPhoneNumber == NOT_ENCODED) {
+            idsByOtherPhoneNumber.put(phoneNumber, id);
+            otherPhoneNumbersById.put(id, phoneNumber);
+            return;
+        }
+        idsByPhoneNumber.put(encodedPhoneNumber, id);
+        phoneNumbersById.put(id, encodedPhoneNumber);
+    }
+
+    public synchronized void remove(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        if (id == NOT_ENCODED) {
+            return;
+        }
+        long encodedPhoneNumber = phoneNumbersById.remove(id, NOT_ENCODED);
+        if (encodedPhoneNumber != NOT_ENCODED) {
+            if (idsByPhoneNumber.get(encodedPhoneNumber, NOT_ENCODED) == id) {
+                idsByPhoneNumber.remove(encodedPhoneNumber, NOT_ENCODED);
+            }
+            return;
+        }
+        String otherPhoneNumber = otherPhoneNumbersById.remove(id);
+        if (otherPhoneNumber != null) {
+            idsByOtherPhoneNumber.remove(otherPhoneNumber, id);
+        }
+    }
+
+    public synchronized boolean contains(String phoneNumber) {
+        return findId(phoneNumber).isPresent();
+    }
+
+    public synchronized OptionalLong findId(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.length() == 0) {
+            return OptionalLong.empty();
+        }
+        long encodedPhoneNumber = encode(phoneNumber);
+        if (encodedPhoneNumber == NOT_ENCODED) {
+            Long id = idsByOtherPhoneNumber.get(phoneNumber);
+            return id == null ? OptionalLong.empty() : OptionalLong.of(id);
+        }
+        long id = idsByPhoneNumber.get(encodedPhoneNumber, NOT_ENCODED);
+        return id == NOT_ENCODED ? OptionalLong.empty() : OptionalLong.of(id);
+    }
+
+    public synchronized void clear() {
+        idsByPhoneNumber.clear();
+        phoneNumbersById.clear();
+        idsByOtherPhoneNumber.clear();
+        otherPhoneNumbersById.clear();
+    }
+
+    public synchronized int size() {
+        return idsByPhoneNumber.size() + idsByOtherPhoneNumber.size();
+    }
+
+    private static long encode(String phoneNumber) {
+        if (phoneNumber.length() > MAX_ENCODED_DIGITS) {
+            return NOT_ENCODED;
+        }
+        long encodedPhoneNumber = 1;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_ENCODED;
+            }
+            encodedPhoneNumber = encodedPhoneNumber * 10 + (c - '0');
+        }
+        return encodedPhoneNumber;
+    }
+
+    private static class LongLongMap {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] keys;
+        private long[] values;
+        private int mask;
+        private int size;
+
+        LongLongMap() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        long get(long key, long defaultValue) {
+            for (int slot = slot(key); keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return defaultValue;
+        }
+
+        void put(long key, long value) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 4 > keys.length * 3) {
+                resize();
+            }
+        }
+
+        long remove(long key, long defaultValue) {
+            int slot = slot(key);
+            while (keys[slot] != key) {
+                if (keys[slot] == EMPTY) {
+                    return defaultValue;
+                }
+                slot = (slot + 1) & mask;
+            }
+            final long value = values[slot];
+            int next = (slot + 1) & mask;
+            while (keys[next] != EMPTY) {
+                int home = slot(keys[next]);
+                if (((next - home) & mask) >= ((next - slot) & mask)) {
+                    keys[slot] = keys[next];
+                    values[slot] = values[next];
+                    slot = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[slot] = EMPTY;
+            size--;
+            return value;
+        }
+
+        void clear() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            allocate(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            values = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            mask = capacity - 1;
+            size = 0;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
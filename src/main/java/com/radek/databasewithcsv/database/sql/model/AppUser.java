@@ -7,12 +7,23 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_app_user_birth_date_id", columnList = "birthDate, id"),
+    @Index(name = "idx_app_user_birth_date_phone_number", columnList = "birthDate, phoneNumber"),
+    @Index(name = "idx_app_user_first_name_id", columnList = "firstName, id"),
+    @Index(name = "idx_app_user_last_name_id", columnList = "lastName, id"),
+    @Index(name = "uk_app_user_phone_number", columnList = "phoneNumber", unique = true)
+})
 public class AppUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_user_sequence")
+    @SequenceGenerator(name = "app_user_sequence", sequenceName = "app_user_sequence", allocationSize = 50)
     @Column(nullable = false)
     private final Long id;
 
@@ -40,7 +51,7 @@ public class AppUser {
         this.firstName = builder.firstName;
         this.lastName = builder.lastName;
         this.birthDate = builder.birthDate;
-        this.phoneNumber = builder.phoneNumber;
+        this.phoneNumber = builder.phoneNumber == null || builder.phoneNumber.length() == 0 ? null : builder.phoneNumber;
     }
 
     public static AppUser.Builder builder() {
@@ -0,0 +1,16 @@
+package com.radek.databasewithcsv.database.sql.model;
+
+import java.time.LocalDate;
+
+public interface AppUserView {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    LocalDate getBirthDate();
+
+    String getPhoneNumber();
+}
@@ -0,0 +1,84 @@
+package com.radek.databasewithcsv.database.sql.model;
+
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class ImportCheckpoint {
+
+    @Id
+    @Column(nullable = false, length = 64)
+    private final String fileHash;
+
+    @Column(nullable = false)
+    private final long lineNumber;
+
+    private ImportCheckpoint() {
+        this.fileHash = null;
+        this.lineNumber = 0;
+    }
+
+    private ImportCheckpoint(Builder builder) {
+        this.fileHash = builder.fileHash;
+        this.lineNumber = builder.lineNumber;
+    }
+
+    public static ImportCheckpoint.Builder builder() {
+        return new ImportCheckpoint.Builder();
+    }
+
+    public String getFileHash() {
+        return fileHash;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImportCheckpoint)) {
+            return false;
+        }
+        ImportCheckpoint importCheckpoint = (ImportCheckpoint) o;
+        return getLineNumber() == importCheckpoint.getLineNumber()
+            && Objects.equals(getFileHash(), importCheckpoint.getFileHash());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getFileHash(), getLineNumber());
+    }
+
+    @Override
+    public String toString() {
+        return "ImportCheckpoint{"
+            + "fileHash='" + fileHash + '\''
+            + ", lineNumber=" + lineNumber
+            + '}';
+    }
+
+    public static class Builder {
+        private String fileHash;
+        private long lineNumber;
+
+        public Builder withFileHash(String fileHash) {
+            this.fileHash = fileHash;
+            return this;
+        }
+
+        public Builder withLineNumber(long lineNumber) {
+            this.lineNumber = lineNumber;
+            return this;
+        }
+
+        public ImportCheckpoint build() {
+            return new ImportCheckpoint(this);
+        }
+    }
+}
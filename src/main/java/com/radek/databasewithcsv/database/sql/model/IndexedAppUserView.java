@@ -0,0 +1,10 @@
+package com.radek.databasewithcsv.database.sql.model;
+
+public interface IndexedAppUserView {
+
+    Long getId();
+
+    String getLastName();
+
+    String getPhoneNumber();
+}
@@ -19,6 +19,13 @@ public interface SqlModelMapper {
     @Mapping(target = "withFirstName", source = "firstName")
     @Mapping(target = "withLastName", source = "lastName")
     @Mapping(target = "withBirthDate", source = "birthDate", resultType = String.class)
-    @Mapping(target = "withPhoneNumber", source = "phoneNumber")
+    @Mapping(target = "withPhoneNumber", source = "phoneNumber", defaultValue = "")
     com.radek.databasewithcsv.model.AppUser toAppUser(AppUser sqlAppUser);
+
+    @Mapping(target = "withId", source = "id")
+    @Mapping(target = "withFirstName", source = "firstName")
+    @Mapping(target = "withLastName", source = "lastName")
+    @Mapping(target = "withBirthDate", source = "birthDate", resultType = String.class)
+    @Mapping(target = "withPhoneNumber", source = "phoneNumber", defaultValue = "")
+    com.radek.databasewithcsv.model.AppUser toAppUser(AppUserView appUserView);
 }
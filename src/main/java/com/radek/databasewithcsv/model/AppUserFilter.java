@@ -0,0 +1,86 @@
+package com.radek.databasewithcsv.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class AppUserFilter {
+
+    private final String lastName;
+    private final LocalDate bornFrom;
+    private final LocalDate bornTo;
+
+    private AppUserFilter(Builder builder) {
+        this.lastName = builder.lastName;
+        this.bornFrom = builder.bornFrom;
+        this.bornTo = builder.bornTo;
+    }
+
+    public static AppUserFilter.Builder builder() {
+        return new AppUserFilter.Builder();
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public LocalDate getBornFrom() {
+        return bornFrom;
+    }
+
+    public LocalDate getBornTo() {
+        return bornTo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AppUserFilter)) {
+            return false;
+        }
+        AppUserFilter that = (AppUserFilter) o;
+        return Objects.equals(lastName, that.lastName)
+            && Objects.equals(bornFrom, that.bornFrom)
+            && Objects.equals(bornTo, that.bornTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lastName, bornFrom, bornTo);
+    }
+
+    @Override
+    public String toString() {
+        return "AppUserFilter{"
+            + "lastName='" + lastName + '\''
+            + ", bornFrom=" + bornFrom
+            + ", bornTo=" + bornTo
+            + '}';
+    }
+
+    public static class Builder {
+        private String lastName;
+        private LocalDate bornFrom;
+        private LocalDate bornTo;
+
+        public Builder withLastName(String lastName) {
+            this.lastName = lastName;
+            return this;
+        }
+
+        public Builder withBornFrom(LocalDate bornFrom) {
+            this.bornFrom = bornFrom;
+            return this;
+        }
+
+        public Builder withBornTo(LocalDate bornTo) {
+            this.bornTo = bornTo;
+            return this;
+        }
+
+        public AppUserFilter build() {
+            return new AppUserFilter(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.radek.databasewithcsv.model;
+
+import java.util.List;
+import java.util.Objects;
+
+public class AppUserSlice {
+
+    private final List<AppUser> content;
+    private final String nextToken;
+    private final Long totalCount;
+
+    private AppUserSlice(Builder builder) {
+        this.content = builder.content;
+        this.nextToken = builder.nextToken;
+        this.totalCount = builder.totalCount;
+    }
+
+    public static AppUserSlice.Builder builder() {
+        return new AppUserSlice.Builder();
+    }
+
+    public List<AppUser> getContent() {
+        return content;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public Long getTotalCount() {
+        return totalCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AppUserSlice)) {
+            return false;
+        }
+        AppUserSlice that = (AppUserSlice) o;
+        return Objects.equals(content, that.content)
+            && Objects.equals(nextToken, that.nextToken)
+            && Objects.equals(totalCount, that.totalCount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, nextToken, totalCount);
+    }
+
+    @Override
+    public String toString() {
+        return "AppUserSlice{"
+            + "content=" + content
+            + ", nextToken='" + nextToken + '\''
+            + ", totalCount=" + totalCount
+            + '}';
+    }
+
+    public static class Builder {
+        private List<AppUser> content = List.of();
+        private String nextToken;
+        private Long totalCount;
+
+        public Builder withContent(List<AppUser> content) {
+            this.content = content;
+            return this;
+        }
+
+        public Builder withNextToken(String nextToken) {
+            this.nextToken = nextToken;
+            return this;
+        }
+
+        public Builder withTotalCount(Long totalCount) {
+            this.totalCount = totalCount;
+            return this;
+        }
+
+        public AppUserSlice build() {
+            return new AppUserSlice(this);
+        }
+    }
+}
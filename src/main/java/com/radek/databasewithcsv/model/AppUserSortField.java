@@ -0,0 +1,29 @@
+package com.radek.databasewithcsv.model;
+
+import java.util.Optional;
+
+public enum AppUserSortField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    BIRTH_DATE("birthDate");
+
+    private final String property;
+
+    AppUserSortField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static Optional<AppUserSortField> fromProperty(String property) {
+        for (AppUserSortField sortField : values()) {
+            if (sortField.property.equalsIgnoreCase(property)) {
+                return Optional.of(sortField);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.radek.databasewithcsv.model;
+
+import java.util.Objects;
+
+public class CacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    private CacheStatistics(Builder builder) {
+        this.hits = builder.hits;
+        this.misses = builder.misses;
+        this.evictions = builder.evictions;
+        this.size = builder.size;
+    }
+
+    public static CacheStatistics.Builder builder() {
+        return new CacheStatistics.Builder();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheStatistics)) {
+            return false;
+        }
+        CacheStatistics that = (CacheStatistics) o;
+        return hits == that.hits
+            && misses == that.misses
+            && evictions == that.evictions
+            && size == that.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, misses, evictions, size);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{"
+            + "hits=" + hits
+            + ", misses=" + misses
+            + ", evictions=" + evictions
+            + ", size=" + size
+            + '}';
+    }
+
+    public static class Builder {
+        private long hits;
+        private long misses;
+        private long evictions;
+        private int size;
+
+        public Builder withHits(long hits) {
+            this.hits = hits;
+            return this;
+        }
+
+        public Builder withMisses(long misses) {
+            this.misses = misses;
+            return this;
+        }
+
+        public Builder withEvictions(long evictions) {
+            this.evictions = evictions;
+            return this;
+        }
+
+        public Builder withSize(int size) {
+            this.size = size;
+            return this;
+        }
+
+        public CacheStatistics build() {
+            return new CacheStatistics(this);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.radek.databasewithcsv.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+public class ContinuationToken {
+
+    private static final char SEPARATOR = ':';
+
+    private final LocalDate birthDate;
+    private final Long id;
+
+    private ContinuationToken(LocalDate birthDate, Long id) {
+        this.birthDate = birthDate;
+        this.id = id;
+    }
+
+    public static ContinuationToken of(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        return new ContinuationToken(null, id);
+    }
+
+    public static ContinuationToken of(LocalDate birthDate, Long id) {
+        if (birthDate == null || id == null) {
+            throw new IllegalArgumentException("Birth date and id cannot be null");
+        }
+        return new ContinuationToken(birthDate, id);
+    }
+
+    public static Optional<ContinuationToken> decode(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                return Optional.of(new ContinuationToken(null, Long.valueOf(decoded)));
+            }
+            return Optional.of(new ContinuationToken(LocalDate.parse(decoded.substring(0, separatorIndex)), Long.valueOf(decoded.substring(separatorIndex + 1))));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String encode() {
+        String value = birthDate == null ? String.valueOf(id) : birthDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean hasBirthDate() {
+        return birthDate != null;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContinuationToken)) {
+            return false;
+        }
+        ContinuationToken that = (ContinuationToken) o;
+        return Objects.equals(birthDate, that.birthDate)
+            && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(birthDate, id);
+    }
+
+    @Override
+    public String toString() {
+        return "ContinuationToken{"
+            + "birthDate=" + birthDate
+            + ", id=" + id
+            + '}';
+    }
+}
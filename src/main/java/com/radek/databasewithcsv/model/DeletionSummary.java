@@ -0,0 +1,72 @@
+package com.radek.databasewithcsv.model;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DeletionSummary {
+
+    private final long deletedCount;
+    private final List<Long> missingIds;
+
+    private DeletionSummary(Builder builder) {
+        this.deletedCount = builder.deletedCount;
+        this.missingIds = builder.missingIds;
+    }
+
+    public static DeletionSummary.Builder builder() {
+        return new DeletionSummary.Builder();
+    }
+
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DeletionSummary)) {
+            return false;
+        }
+        DeletionSummary that = (DeletionSummary) o;
+        return deletedCount == that.deletedCount
+            && Objects.equals(missingIds, that.missingIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(deletedCount, missingIds);
+    }
+
+    @Override
+    public String toString() {
+        return "DeletionSummary{"
+            + "deletedCount=" + deletedCount
+            + ", missingIds=" + missingIds
+            + '}';
+    }
+
+    public static class Builder {
+        private long deletedCount;
+        private List<Long> missingIds = List.of();
+
+        public Builder withDeletedCount(long deletedCount) {
+            this.deletedCount = deletedCount;
+            return this;
+        }
+
+        public Builder withMissingIds(List<Long> missingIds) {
+            this.missingIds = missingIds;
+            return this;
+        }
+
+        public DeletionSummary build() {
+            return new DeletionSummary(this);
+        }
+    }
+}
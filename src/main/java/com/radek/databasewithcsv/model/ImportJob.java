@@ -0,0 +1,203 @@
+package com.radek.databasewithcsv.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+public class ImportJob {
+
+    private final String id;
+    private final ImportJobStatus status;
+    private final long rowsParsed;
+    private final long rowsRejected;
+    private final long rowsSaved;
+    private final double rowsPerSecond;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String errorMessage;
+    private final List<ImportStageStatistics> stages;
+    private final boolean rejectedRowsReport;
+
+    private ImportJob(Builder builder) {
+        this.id = builder.id;
+        this.status = builder.status;
+        this.rowsParsed = builder.rowsParsed;
+        this.rowsRejected = builder.rowsRejected;
+        this.rowsSaved = builder.rowsSaved;
+        this.rowsPerSecond = builder.rowsPerSecond;
+        this.startedAt = builder.startedAt;
+        this.finishedAt = builder.finishedAt;
+        this.errorMessage = builder.errorMessage;
+        this.stages = builder.stages;
+        this.rejectedRowsReport = builder.rejectedRowsReport;
+    }
+
+    public static ImportJob.Builder builder() {
+        return new ImportJob.Builder();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public long getRowsSaved() {
+        return rowsSaved;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public List<ImportStageStatistics> getStages() {
+        return stages;
+    }
+
+    public boolean isRejectedRowsReport() {
+        return rejectedRowsReport;
+    }
+
+    public boolean isCompleted() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImportJob)) {
+            return false;
+        }
+        ImportJob importJob = (ImportJob) o;
+        return rowsParsed == importJob.rowsParsed
+            && rowsRejected == importJob.rowsRejected
+            && rowsSaved == importJob.rowsSaved
+            && Double.compare(importJob.rowsPerSecond, rowsPerSecond) == 0
+            && Objects.equals(id, importJob.id)
+            && status == importJob.status
+            && Objects.equals(startedAt, importJob.startedAt)
+            && Objects.equals(finishedAt, importJob.finishedAt)
+            && Objects.equals(errorMessage, importJob.errorMessage)
+            && Objects.equals(stages, importJob.stages)
+            && rejectedRowsReport == importJob.rejectedRowsReport;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, rowsParsed, rowsRejected, rowsSaved, rowsPerSecond, startedAt, finishedAt, errorMessage, stages, rejectedRowsReport);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportJob{"
+            + "id='" + id + '\''
+            + ", status=" + status
+            + ", rowsParsed=" + rowsParsed
+            + ", rowsRejected=" + rowsRejected
+            + ", rowsSaved=" + rowsSaved
+            + ", rowsPerSecond=" + rowsPerSecond
+            + ", startedAt=" + startedAt
+            + ", finishedAt=" + finishedAt
+            + ", errorMessage='" + errorMessage + '\''
+            + ", stages=" + stages
+            + ", rejectedRowsReport=" + rejectedRowsReport
+            + '}';
+    }
+
+    public static class Builder {
+        private String id;
+        private ImportJobStatus status;
+        private long rowsParsed;
+        private long rowsRejected;
+        private long rowsSaved;
+        private double rowsPerSecond;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private String errorMessage;
+        private List<ImportStageStatistics> stages;
+        private boolean rejectedRowsReport;
+
+        public Builder withId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withStatus(ImportJobStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder withRowsParsed(long rowsParsed) {
+            this.rowsParsed = rowsParsed;
+            return this;
+        }
+
+        public Builder withRowsRejected(long rowsRejected) {
+            this.rowsRejected = rowsRejected;
+            return this;
+        }
+
+        public Builder withRowsSaved(long rowsSaved) {
+            this.rowsSaved = rowsSaved;
+            return this;
+        }
+
+        public Builder withRowsPerSecond(double rowsPerSecond) {
+            this.rowsPerSecond = rowsPerSecond;
+            return this;
+        }
+
+        public Builder withStartedAt(LocalDateTime startedAt) {
+            this.startedAt = startedAt;
+            return this;
+        }
+
+        public Builder withFinishedAt(LocalDateTime finishedAt) {
+            this.finishedAt = finishedAt;
+            return this;
+        }
+
+        public Builder withErrorMessage(String errorMessage) {
+            this.errorMessage = errorMessage;
+            return this;
+        }
+
+        public Builder withStages(List<ImportStageStatistics> stages) {
+            this.stages = stages;
+            return this;
+        }
+
+        public Builder withRejectedRowsReport(boolean rejectedRowsReport) {
+            this.rejectedRowsReport = rejectedRowsReport;
+            return this;
+        }
+
+        public ImportJob build() {
+            return new ImportJob(this);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.radek.databasewithcsv.model;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
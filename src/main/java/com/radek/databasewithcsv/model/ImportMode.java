@@ -0,0 +1,6 @@
+package com.radek.databasewithcsv.model;
+
+public enum ImportMode {
+    INSERT,
+    UPSERT
+}
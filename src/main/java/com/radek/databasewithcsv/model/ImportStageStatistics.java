@@ -0,0 +1,113 @@
+package com.radek.databasewithcsv.model;
+
+import java.util.Objects;
+
+public class ImportStageStatistics {
+
+    private final String stage;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final long rowsProcessed;
+    private final double rowsPerSecond;
+
+    private ImportStageStatistics(Builder builder) {
+        this.stage = builder.stage;
+        this.queueDepth = builder.queueDepth;
+        this.queueCapacity = builder.queueCapacity;
+        this.rowsProcessed = builder.rowsProcessed;
+        this.rowsPerSecond = builder.rowsPerSecond;
+    }
+
+    public static ImportStageStatistics.Builder builder() {
+        return new ImportStageStatistics.Builder();
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImportStageStatistics)) {
+            return false;
+        }
+        ImportStageStatistics that = (ImportStageStatistics) o;
+        return queueDepth == that.queueDepth
+            && queueCapacity == that.queueCapacity
+            && rowsProcessed == that.rowsProcessed
+            && Double.compare(that.rowsPerSecond, rowsPerSecond) == 0
+            && Objects.equals(stage, that.stage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stage, queueDepth, queueCapacity, rowsProcessed, rowsPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportStageStatistics{"
+            + "stage='" + stage + '\''
+            + ", queueDepth=" + queueDepth
+            + ", queueCapacity=" + queueCapacity
+            + ", rowsProcessed=" + rowsProcessed
+            + ", rowsPerSecond=" + rowsPerSecond
+            + '}';
+    }
+
+    public static class Builder {
+        private String stage;
+        private int queueDepth;
+        private int queueCapacity;
+        private long rowsProcessed;
+        private double rowsPerSecond;
+
+        public Builder withStage(String stage) {
+            this.stage = stage;
+            return this;
+        }
+
+        public Builder withQueueDepth(int queueDepth) {
+            this.queueDepth = queueDepth;
+            return this;
+        }
+
+        public Builder withQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder withRowsProcessed(long rowsProcessed) {
+            this.rowsProcessed = rowsProcessed;
+            return this;
+        }
+
+        public Builder withRowsPerSecond(double rowsPerSecond) {
+            this.rowsPerSecond = rowsPerSecond;
+            return this;
+        }
+
+        public ImportStageStatistics build() {
+            return new ImportStageStatistics(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.radek.databasewithcsv.model;
+
+import java.util.Objects;
+
+public class ImportSummary {
+
+    private final long rowsParsed;
+    private final long rowsRejected;
+    private final long rowsSaved;
+
+    private ImportSummary(Builder builder) {
+        this.rowsParsed = builder.rowsParsed;
+        this.rowsRejected = builder.rowsRejected;
+        this.rowsSaved = builder.rowsSaved;
+    }
+
+    public static ImportSummary.Builder builder() {
+        return new ImportSummary.Builder();
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public long getRowsSaved() {
+        return rowsSaved;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImportSummary)) {
+            return false;
+        }
+        ImportSummary that = (ImportSummary) o;
+        return rowsParsed == that.rowsParsed
+            && rowsRejected == that.rowsRejected
+            && rowsSaved == that.rowsSaved;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowsParsed, rowsRejected, rowsSaved);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportSummary{"
+            + "rowsParsed=" + rowsParsed
+            + ", rowsRejected=" + rowsRejected
+            + ", rowsSaved=" + rowsSaved
+            + '}';
+    }
+
+    public static class Builder {
+        private long rowsParsed;
+        private long rowsRejected;
+        private long rowsSaved;
+
+        public Builder withRowsParsed(long rowsParsed) {
+            this.rowsParsed = rowsParsed;
+            return this;
+        }
+
+        public Builder withRowsRejected(long rowsRejected) {
+            this.rowsRejected = rowsRejected;
+            return this;
+        }
+
+        public Builder withRowsSaved(long rowsSaved) {
+            this.rowsSaved = rowsSaved;
+            return this;
+        }
+
+        public ImportSummary build() {
+            return new ImportSummary(this);
+        }
+    }
+}
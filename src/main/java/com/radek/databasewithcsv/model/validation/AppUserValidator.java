@@ -3,68 +3,122 @@ package com.radek.databasewithcsv.model.validation;
 import com.radek.databasewithcsv.model.AppUser;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 public class AppUserValidator extends Validator {
-    private static Logger log = LoggerFactory.getLogger(AppUserValidator.class);
+
+    public static final int APP_USER_MISSING = 1;
+    public static final int FIRST_NAME_MISSING = 1 << 1;
+    public static final int FIRST_NAME_INVALID = 1 << 2;
+    public static final int LAST_NAME_MISSING = 1 << 3;
+    public static final int LAST_NAME_INVALID = 1 << 4;
+    public static final int BIRTH_DATE_MISSING = 1 << 5;
+    public static final int BIRTH_DATE_INVALID = 1 << 6;
+    public static final int PHONE_NUMBER_INVALID = 1 << 7;
+
+    private static final String[] ERROR_MESSAGES = {
+        "App user cannot be null",
+        "First name cannot be null",
+        "First name should contain only letters",
+        "Last name cannot be null",
+        "Last name should contain only letters",
+        "Birth date cannot be null",
+        "Incorrect format of birth date",
+        "Incorrect format of phone number"
+    };
+
+    private static final String NAME_LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyząćęłńóśźżĄĘŁŃÓŚŹŻ";
+    private static final boolean[] NAME_CHARACTERS = createNameCharacters();
 
     public static List<String> validate(AppUser appUser) {
+        return describe(validationErrors(appUser));
+    }
+
+    public static int validationErrors(AppUser appUser) {
         if (appUser == null) {
-            return Collections.singletonList("App user cannot be null");
+            return APP_USER_MISSING;
+        }
+        return validateName(appUser.getFirstName(), FIRST_NAME_MISSING, FIRST_NAME_INVALID)
+            | validateName(appUser.getLastName(), LAST_NAME_MISSING, LAST_NAME_INVALID)
+            | validateBirthDate(appUser.getBirthDate())
+            | validatePhoneNumber(appUser.getPhoneNumber());
+    }
+
+    public static List<String> describe(int validationErrors) {
+        List<String> result = new ArrayList<>(Integer.bitCount(validationErrors));
+        for (int i = 0; i < ERROR_MESSAGES.length; i++) {
+            addResultOfValidation(result, (validationErrors & (1 << i)) != 0 ? ERROR_MESSAGES[i] : null);
         }
-        List<String> result = new ArrayList<>();
-        addResultOfValidation(result, validateFirstName(appUser.getFirstName()));
-        addResultOfValidation(result, validateLastName(appUser.getLastName()));
-        addResultOfValidation(result, validateBirthDate(appUser.getBirthDate()));
-        addResultOfValidation(result, validatePhoneNumber(appUser.getPhoneNumber()));
         return result;
     }
 
-    private static String validateFirstName(String firstName) {
-        if (firstName == null || firstName.length() == 0) {
-            log.error("First name cannot be null");
-            return "First name cannot be null";
+    public static int errorTypesCount() {
+        return ERROR_MESSAGES.length;
+    }
+
+    private static int validateName(String name, int missingError, int invalidError) {
+        if (name == null || name.length() == 0) {
+            return missingError;
         }
-        if (!RegexPatterns.matchesNamePattern(firstName)) {
-            log.error("First name should contain only letters");
-            return "First name should contain only letters";
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= NAME_CHARACTERS.length || !NAME_CHARACTERS[c]) {
+                return invalidError;
+            }
         }
-        return null;
+        return 0;
     }
 
-    private static String validateLastName(String lastName) {
-        if (lastName == null || lastName.length() == 0) {
-            log.error("Last name cannot be null");
-            return "Last name cannot be null";
+    private static int validateBirthDate(String birthDate) {
+        if (birthDate == null || birthDate.length() == 0) {
+            return BIRTH_DATE_MISSING;
         }
-        if (!RegexPatterns.matchesNamePattern(lastName)) {
-            log.error("Last name should contain only letters");
-            return "Last name should contain only letters";
+        if (birthDate.length() != 10 || !isDigit(birthDate, 0, '0', '9') || !isDigit(birthDate, 1, '0', '9') || !isDigit(birthDate, 2, '0', '9')
+            || !isDigit(birthDate, 3, '0', '9') || birthDate.charAt(4) != '-' || birthDate.charAt(7) != '-' || !isValidMonth(birthDate) || !isValidDay(birthDate)) {
+            return BIRTH_DATE_INVALID;
         }
-        return null;
+        return 0;
     }
 
-    private static String validateBirthDate(String birthDate) {
-        if (birthDate == null || birthDate.length() == 0) {
-            log.error("Birth date cannot be null");
-            return "Birth date cannot be null";
+    private static boolean isValidMonth(String birthDate) {
+        char first = birthDate.charAt(5);
+        return first == '0' && isDigit(birthDate, 6, '0', '9') || first == '1' && isDigit(birthDate, 6, '1', '2');
+    }
+
+    private static boolean isValidDay(String birthDate) {
+        char first = birthDate.charAt(8);
+        return first == '0' && isDigit(birthDate, 9, '1', '9') || (first == '1' || first == '2') && isDigit(birthDate, 9, '0', '9') || first == '3' && isDigit(birthDate, 9, '0', '1');
+    }
+
+    private static int validatePhoneNumber(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.length() == 0) {
+            return 0;
+        }
+        if (phoneNumber.length() != 9 || !isDigit(phoneNumber, 0, '4', '8')) {
+            return PHONE_NUMBER_INVALID;
         }
-        if (!RegexPatterns.matchesBirthDatePattern(birthDate)) {
-            log.error("Incorrect format of birth date");
-            return "Incorrect format of birth date";
+        for (int i = 1; i < 9; i++) {
+            if (!isDigit(phoneNumber, i, '0', '9')) {
+                return PHONE_NUMBER_INVALID;
+            }
         }
-        return null;
+        return 0;
     }
 
-    private static String validatePhoneNumber(String phoneNumber) {
-        if (phoneNumber.length() != 0 && !RegexPatterns.matchesPhoneNumberPattern(phoneNumber)) {
-            log.error("Incorrect format of phone number");
-            return "Incorrect format of phone number";
+    private static boolean isDigit(String value, int index, char from, char to) {
+        char c = value.charAt(index);
+        return c >= from && c <= to;
+    }
+
+    private static boolean[] createNameCharacters() {
+        char maxLetter = 0;
+        for (int i = 0; i < NAME_LETTERS.length(); i++) {
+            maxLetter = (char) Math.max(maxLetter, NAME_LETTERS.charAt(i));
+        }
+        boolean[] nameCharacters = new boolean[maxLetter + 1];
+        for (int i = 0; i < NAME_LETTERS.length(); i++) {
+            nameCharacters[NAME_LETTERS.charAt(i)] = true;
         }
-        return null;
+        return nameCharacters;
     }
 }
@@ -1,18 +1,47 @@
 package com.radek.databasewithcsv.service;
 
+import com.radek.databasewithcsv.config.ImportProperties;
+import com.radek.databasewithcsv.config.PagingProperties;
+import com.radek.databasewithcsv.csvhelper.AppUserChunkHandler;
+import com.radek.databasewithcsv.csvhelper.AppUserRowReader;
+import com.radek.databasewithcsv.csvhelper.AppUserWriter;
+import com.radek.databasewithcsv.csvhelper.CompressionType;
+import com.radek.databasewithcsv.csvhelper.CsvCustomParsingException;
+import com.radek.databasewithcsv.csvhelper.CustomCsvReader;
+import com.radek.databasewithcsv.csvhelper.FileDigest;
+import com.radek.databasewithcsv.csvhelper.ImportProgress;
+import com.radek.databasewithcsv.csvhelper.MappedCsvReader;
+import com.radek.databasewithcsv.csvhelper.PipelinedCsvReader;
+import com.radek.databasewithcsv.csvhelper.RejectedRowReport;
+import com.radek.databasewithcsv.csvhelper.ZipFileCsvReader;
 import com.radek.databasewithcsv.database.Database;
 import com.radek.databasewithcsv.database.DatabaseOperationException;
 import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.AppUserFilter;
+import com.radek.databasewithcsv.model.AppUserSlice;
+import com.radek.databasewithcsv.model.AppUserSortField;
+import com.radek.databasewithcsv.model.CacheStatistics;
+import com.radek.databasewithcsv.model.ContinuationToken;
+import com.radek.databasewithcsv.model.DeletionSummary;
+import com.radek.databasewithcsv.model.ImportMode;
+import com.radek.databasewithcsv.model.ImportSummary;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,10 +50,14 @@ public class AppUserService {
     private Logger log = LoggerFactory.getLogger(AppUserService.class);
 
     private final Database database;
+    private final ImportProperties importProperties;
+    private final PagingProperties pagingProperties;
 
     @Autowired
-    public AppUserService(Database database) {
+    public AppUserService(Database database, ImportProperties importProperties, PagingProperties pagingProperties) {
         this.database = database;
+        this.importProperties = importProperties;
+        this.pagingProperties = pagingProperties;
     }
 
     public Collection<AppUser> addAppUsers(Collection<AppUser> appUsers) throws ServiceOperationException {
@@ -33,15 +66,7 @@ public class AppUserService {
             throw new IllegalArgumentException("App users cannot be null");
         }
         try {
-            List<AppUser> validatedAppUsers = new ArrayList<>();
-            for (AppUser appUser : appUsers) {
-                if (!database.existsByPhoneNumber(appUser.getPhoneNumber())) {
-                    validatedAppUsers.add(appUser);
-                } else {
-                    log.error("User {} cannot be saved in database since his phone number is not unique", appUser.getFirstName() + " " + appUser.getLastName());
-                }
-            }
-            return database.saveAll(validatedAppUsers);
+            return database.saveAll(appUsers);
         } catch (DatabaseOperationException e) {
             String message = "An error occurred during adding app user.";
             log.error(message, e);
@@ -49,6 +74,128 @@ public class AppUserService {
         }
     }
 
+    public ImportSummary addAppUsers(InputStream inputStream, CompressionType compressionType, ImportProgress progress) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        if (inputStream == null) {
+            log.error("Attempt to add app users from null input stream.");
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        if (compressionType == null) {
+            log.error("Attempt to add app users without compression type.");
+            throw new IllegalArgumentException("Compression type cannot be null");
+        }
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(inputStream, importProperties.getParser(), compressionType)) {
+            return CustomCsvReader.readAppUsers(rowReader, importProperties.getChunkSize(), this::addAppUsers, progress, RejectedRowReport.disabled());
+        }
+    }
+
+    public Collection<AppUser> upsertAppUsers(Collection<AppUser> appUsers) throws ServiceOperationException {
+        if (appUsers == null) {
+            log.error("Attempt to upsert null app users.");
+            throw new IllegalArgumentException("App users cannot be null");
+        }
+        try {
+            return database.upsertAll(appUsers);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during upserting app users.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+    }
+
+    public ImportSummary importAppUsers(InputStream inputStream) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        return importAppUsers(inputStream, new ImportProgress());
+    }
+
+    public ImportSummary importAppUsers(InputStream inputStream, ImportProgress progress) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        return importAppUsers(inputStream, progress, RejectedRowReport.disabled());
+    }
+
+    public ImportSummary importAppUsers(InputStream inputStream, ImportProgress progress, RejectedRowReport report) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        return importAppUsers(inputStream, CompressionType.NONE, progress, report);
+    }
+
+    public ImportSummary importAppUsers(InputStream inputStream, CompressionType compressionType) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        return importAppUsers(inputStream, compressionType, new ImportProgress(), RejectedRowReport.disabled());
+    }
+
+    public ImportSummary importAppUsers(InputStream inputStream, CompressionType compressionType, ImportProgress progress, RejectedRowReport report)
+        throws IOException, CsvCustomParsingException, ServiceOperationException {
+        if (inputStream == null) {
+            log.error("Attempt to import app users from null input stream.");
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        if (compressionType == null) {
+            log.error("Attempt to import app users without compression type.");
+            throw new IllegalArgumentException("Compression type cannot be null");
+        }
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(inputStream, importProperties.getParser(), compressionType)) {
+            if (importProperties.isPipelineEnabled()) {
+                return PipelinedCsvReader.readAppUsers(Collections.singletonList(rowReader), importProperties.getChunkSize(), importProperties.getValidatorThreads(), importProperties.getPipelineQueueCapacity(), chunkHandler(), progress, report);
+            }
+            return CustomCsvReader.readAppUsers(rowReader, importProperties.getChunkSize(), chunkHandler(), progress, report);
+        }
+    }
+
+    public Optional<Path> resolveServerFile(String fileName) {
+        if (fileName == null) {
+            log.error("Attempt to resolve server file providing null file name.");
+            throw new IllegalArgumentException("File name cannot be null");
+        }
+        String serverFilesDirectory = importProperties.getServerFilesDirectory();
+        if (serverFilesDirectory == null || serverFilesDirectory.isBlank()) {
+            log.error("Attempt to resolve server file while server files directory is not configured.");
+            return Optional.empty();
+        }
+        try {
+            Path directory = Path.of(serverFilesDirectory).toRealPath();
+            Path file = directory.resolve(fileName).normalize();
+            if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+                log.error("Attempt to resolve server file outside of server files directory or not being a regular file.");
+                return Optional.empty();
+            }
+            Path realFile = file.toRealPath();
+            return realFile.startsWith(directory) ? Optional.of(realFile) : Optional.empty();
+        } catch (IOException | InvalidPathException e) {
+            log.error("Could not resolve server file {}", fileName);
+            return Optional.empty();
+        }
+    }
+
+    public ImportSummary importZipFile(Path file, ImportProgress progress, RejectedRowReport report) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        if (file == null) {
+            log.error("Attempt to import app users from null zip file.");
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        return ZipFileCsvReader.readAppUsers(file, importProperties.getParser(), importProperties.getChunkSize(), importProperties.getValidatorThreads(), importProperties.getPipelineQueueCapacity(),
+            chunkHandler(), progress, report);
+    }
+
+    public ImportSummary importServerFile(Path file) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        return importServerFile(file, new ImportProgress(), RejectedRowReport.disabled());
+    }
+
+    public ImportSummary importServerFile(Path file, ImportProgress progress, RejectedRowReport report) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        if (file == null) {
+            log.error("Attempt to import app users from null file.");
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        if (report == null) {
+            log.error("Attempt to import app users without rejected row report.");
+            throw new IllegalArgumentException("Rejected row report cannot be null");
+        }
+        if (importProperties.isCheckpointsEnabled()) {
+            return importServerFileWithCheckpoints(file, progress, report);
+        }
+        List<AppUserRowReader> rowReaders = MappedCsvReader.openRowReaders(file, importProperties.getMappedSegments(), report.isEnabled());
+        try {
+            return PipelinedCsvReader.readAppUsers(rowReaders, importProperties.getChunkSize(), importProperties.getValidatorThreads(), importProperties.getPipelineQueueCapacity(), chunkHandler(), progress, report);
+        } finally {
+            for (AppUserRowReader rowReader : rowReaders) {
+                rowReader.close();
+            }
+        }
+    }
+
     public Page<AppUser> getFirstPageOfAppUsers() throws ServiceOperationException {
         try {
             return database.getAppUsers();
@@ -73,6 +220,35 @@ public class AppUserService {
         }
     }
 
+    public Page<AppUser> getAppUsers(Integer pageNumber, Integer pageSize, AppUserSortField sortField, Direction direction) throws ServiceOperationException {
+        if (pageNumber == null) {
+            log.error("Attempt to get page of app users without providing page number");
+            throw new IllegalArgumentException("Attempt to get page of app users without providing page number");
+        }
+        if (pageSize != null && pageSize <= 0) {
+            log.error("Attempt to get page of app users providing non-positive page size");
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        int boundedPageSize = Math.min(pageSize == null ? pagingProperties.getDefaultPageSize() : pageSize, pagingProperties.getMaxPageSize());
+        try {
+            return database.getAppUsers(pageNumber, boundedPageSize, sortField == null ? AppUserSortField.BIRTH_DATE : sortField, direction == null ? Direction.DESC : direction);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during getting page of app user.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+    }
+
+    public AppUserSlice getAppUsersAfter(ContinuationToken continuationToken, boolean withTotalCount) throws ServiceOperationException {
+        try {
+            return database.getAppUsersAfter(continuationToken, withTotalCount);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during getting slice of app users.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+    }
+
     public Optional<AppUser> getAppUserById(Long id) throws ServiceOperationException {
         if (id == null) {
             log.error("Attempt to get app user by id providing null id.");
@@ -88,12 +264,20 @@ public class AppUserService {
     }
 
     public Collection<AppUser> getAppUsersByLastName(String lastName) throws ServiceOperationException {
+        return getAppUsersByLastName(lastName, null);
+    }
+
+    public Collection<AppUser> getAppUsersByLastName(String lastName, Integer limit) throws ServiceOperationException {
         if (lastName == null) {
             log.error("Attempt to get app user by last name providing null last name.");
             throw new IllegalArgumentException("Last name cannot be null.");
         }
+        if (limit != null && limit <= 0) {
+            log.error("Attempt to get app users by last name providing non-positive limit.");
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
         try {
-            return database.getByLastName(lastName);
+            return database.getByLastName(lastName, limit == null ? pagingProperties.getMaxPageSize() : Math.min(limit, pagingProperties.getMaxPageSize()));
         } catch (DatabaseOperationException e) {
             String message = "An error occurred during getting app user by number.";
             log.error(message, e);
@@ -101,6 +285,25 @@ public class AppUserService {
         }
     }
 
+    public AppUserSlice getAppUsersByLastNameAfter(String lastName, ContinuationToken continuationToken, Integer pageSize, boolean withTotalCount) throws ServiceOperationException {
+        if (lastName == null) {
+            log.error("Attempt to get app user by last name providing null last name.");
+            throw new IllegalArgumentException("Last name cannot be null.");
+        }
+        if (pageSize != null && pageSize <= 0) {
+            log.error("Attempt to get app users by last name providing non-positive page size.");
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        int boundedPageSize = Math.min(pageSize == null ? pagingProperties.getDefaultPageSize() : pageSize, pagingProperties.getMaxPageSize());
+        try {
+            return database.getByLastNameAfter(lastName, continuationToken, boundedPageSize, withTotalCount);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during getting slice of app users by last name.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+    }
+
     public Optional<AppUser> getOldestAppUser() throws ServiceOperationException {
         try {
             return database.getOldestAppUserWithPhoneNumber();
@@ -111,13 +314,27 @@ public class AppUserService {
         }
     }
 
-    public void deleteById(Long id) throws ServiceOperationException {
+    public long exportAppUsers(AppUserFilter filter, AppUserWriter writer) throws IOException, ServiceOperationException {
+        if (filter == null || writer == null) {
+            log.error("Attempt to export app users without filter or writer");
+            throw new IllegalArgumentException("Filter and writer cannot be null");
+        }
+        try {
+            return database.forEachAppUser(filter, writer::write);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during exporting app users.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+    }
+
+    public boolean deleteById(Long id) throws ServiceOperationException {
         if (id == null) {
             log.error("Attempt to delete app user providing null id");
             throw new IllegalArgumentException("Id cannot be null");
         }
         try {
-            database.delete(id);
+            return database.delete(id);
         } catch (DatabaseOperationException e) {
             String message = "An error occurred during deleting app user by id.";
             log.error(message, e);
@@ -135,6 +352,34 @@ public class AppUserService {
         }
     }
 
+    public DeletionSummary deleteByIds(Collection<Long> ids) throws ServiceOperationException {
+        if (ids == null) {
+            log.error("Attempt to delete app users providing null ids");
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+        try {
+            return database.deleteByIds(ids);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during deleting app users by ids.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+    }
+
+    public long deleteByIdRange(Long fromId, Long toId) throws ServiceOperationException {
+        if (fromId == null || toId == null) {
+            log.error("Attempt to delete app users providing null id range");
+            throw new IllegalArgumentException("Id range cannot be null");
+        }
+        try {
+            return database.deleteByIdRange(fromId, toId);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during deleting app users by id range.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+    }
+
     public long count() throws ServiceOperationException {
         try {
             return database.count();
@@ -158,4 +403,52 @@ public class AppUserService {
             throw new ServiceOperationException(message, e);
         }
     }
+
+    public CacheStatistics getCacheStatistics() {
+        return database.getCacheStatistics();
+    }
+
+    private AppUserChunkHandler<ServiceOperationException> chunkHandler() {
+        if (importProperties.getMode() == ImportMode.UPSERT) {
+            return this::upsertAppUsers;
+        }
+        return this::addAppUsers;
+    }
+
+    private ImportSummary importServerFileWithCheckpoints(Path file, ImportProgress progress, RejectedRowReport report) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        String fileHash = FileDigest.fingerprint(file);
+        OptionalLong checkpoint;
+        try {
+            checkpoint = database.getImportCheckpoint(fileHash);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during getting import checkpoint.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+        if (checkpoint.isPresent()) {
+            log.info("Resuming import of file {} after line {}", file, checkpoint.getAsLong());
+        }
+        ImportSummary importSummary;
+        try (AppUserRowReader rowReader = MappedCsvReader.openRowReaderAfterLine(file, checkpoint.orElse(0))) {
+            importSummary = CustomCsvReader.readAppUsers(rowReader, importProperties.getChunkSize(), appUsers -> saveChunk(appUsers, fileHash, rowReader.getLineNumber()), progress, report);
+        }
+        try {
+            database.deleteImportCheckpoint(fileHash);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during deleting import checkpoint.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+        return importSummary;
+    }
+
+    private Collection<AppUser> saveChunk(Collection<AppUser> appUsers, String fileHash, long lineNumber) throws ServiceOperationException {
+        try {
+            return database.saveChunk(appUsers, importProperties.getMode(), fileHash, lineNumber);
+        } catch (DatabaseOperationException e) {
+            String message = "An error occurred during saving chunk of app users.";
+            log.error(message, e);
+            throw new ServiceOperationException(message, e);
+        }
+    }
 }
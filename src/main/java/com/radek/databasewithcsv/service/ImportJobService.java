@@ -0,0 +1,230 @@
+package com.radek.databasewithcsv.service;
+
+import com.radek.databasewithcsv.config.ImportProperties;
+import com.radek.databasewithcsv.csvhelper.CompressionType;
+import com.radek.databasewithcsv.csvhelper.CsvCustomParsingException;
+import com.radek.databasewithcsv.csvhelper.ImportProgress;
+import com.radek.databasewithcsv.csvhelper.RejectedRowReport;
+import com.radek.databasewithcsv.model.ImportJob;
+import com.radek.databasewithcsv.model.ImportJobStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ImportJobService {
+
+    private Logger log = LoggerFactory.getLogger(ImportJobService.class);
+
+    private final AppUserService appUserService;
+    private final Executor executor;
+    private final int maxRetainedJobs;
+    private final Map<String, TrackedImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImportJobService(AppUserService appUserService, ImportProperties importProperties) {
+        this(appUserService, createExecutor(importProperties), importProperties.getMaxRetainedJobs());
+    }
+
+    ImportJobService(AppUserService appUserService, Executor executor, int maxRetainedJobs) {
+        this.appUserService = appUserService;
+        this.executor = executor;
+        this.maxRetainedJobs = maxRetainedJobs;
+    }
+
+    public ImportJob submit(Path file) {
+        return submit(file, false);
+    }
+
+    public ImportJob submit(Path file, boolean rejectedRowsReport) {
+        return submit(file, CompressionType.NONE, rejectedRowsReport);
+    }
+
+    public ImportJob submit(Path file, CompressionType compressionType, boolean rejectedRowsReport) {
+        if (file == null) {
+            log.error("Attempt to submit import job without file.");
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        if (compressionType == null) {
+            log.error("Attempt to submit import job without compression type.");
+            throw new IllegalArgumentException("Compression type cannot be null");
+        }
+        evictFinishedJobs();
+        TrackedImportJob job = new TrackedImportJob(UUID.randomUUID().toString(), rejectedRowsReport);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, file, compressionType));
+        } catch (RejectedExecutionException e) {
+            log.error("Import job {} rejected since import queue is full", job.id);
+            jobs.remove(job.id);
+            deleteFile(file);
+            throw e;
+        }
+        log.info("Submitted import job {}", job.id);
+        return job.toImportJob();
+    }
+
+    public Optional<ImportJob> getJob(String id) {
+        if (id == null) {
+            log.error("Attempt to get import job providing null id.");
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        TrackedImportJob job = jobs.get(id);
+        return job == null ? Optional.empty() : Optional.of(job.toImportJob());
+    }
+
+    public Optional<Path> getRejectedRowsReport(String id) {
+        if (id == null) {
+            log.error("Attempt to get rejected rows report providing null id.");
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        TrackedImportJob job = jobs.get(id);
+        if (job == null || job.finishedAt == null || job.reportFile == null) {
+            return Optional.empty();
+        }
+        return Optional.of(job.reportFile);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    private void run(TrackedImportJob job, Path file, CompressionType compressionType) {
+        job.start();
+        try (RejectedRowReport report = openReport(job)) {
+            importFile(file, compressionType, job.progress, report);
+            job.finish(ImportJobStatus.COMPLETED, null);
+            log.info("Import job {} completed", job.id);
+        } catch (Exception e) {
+            log.error(String.format("Import job %s failed", job.id), e);
+            job.finish(ImportJobStatus.FAILED, e.getMessage());
+        } finally {
+            deleteFile(file);
+        }
+    }
+
+    private void importFile(Path file, CompressionType compressionType, ImportProgress progress, RejectedRowReport report) throws IOException, CsvCustomParsingException, ServiceOperationException {
+        if (compressionType == CompressionType.ZIP) {
+            appUserService.importZipFile(file, progress, report);
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            appUserService.importAppUsers(inputStream, compressionType, progress, report);
+        }
+    }
+
+    private RejectedRowReport openReport(TrackedImportJob job) throws IOException {
+        if (!job.rejectedRowsReport) {
+            return RejectedRowReport.disabled();
+        }
+        job.reportFile = Files.createTempFile("app-users-rejected-rows-", ".csv");
+        return new RejectedRowReport(Files.newBufferedWriter(job.reportFile, StandardCharsets.UTF_8));
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < maxRetainedJobs) {
+            return;
+        }
+        jobs.values().stream()
+            .filter(job -> job.finishedAt != null)
+            .sorted(Comparator.comparing(job -> job.finishedAt))
+            .limit(jobs.size() - maxRetainedJobs + 1L)
+            .forEach(job -> {
+                jobs.remove(job.id);
+                if (job.reportFile != null) {
+                    deleteFile(job.reportFile);
+                }
+            });
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.error("Could not delete imported file {}", file);
+        }
+    }
+
+    private static ExecutorService createExecutor(ImportProperties importProperties) {
+        int poolSize = importProperties.getAsyncPoolSize();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(importProperties.getAsyncQueueCapacity()));
+    }
+
+    private static class TrackedImportJob {
+        private final String id;
+        private final ImportProgress progress = new ImportProgress();
+        private final boolean rejectedRowsReport;
+        private volatile Path reportFile;
+        private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessage;
+
+        TrackedImportJob(String id, boolean rejectedRowsReport) {
+            this.id = id;
+            this.rejectedRowsReport = rejectedRowsReport;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            status = ImportJobStatus.RUNNING;
+        }
+
+        void finish(ImportJobStatus finalStatus, String message) {
+            errorMessage = message;
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        ImportJob toImportJob() {
+            LocalDateTime started = startedAt;
+            LocalDateTime finished = finishedAt;
+            return ImportJob.builder()
+                .withId(id)
+                .withStatus(status)
+                .withRowsParsed(progress.getRowsParsed())
+                .withRowsRejected(progress.getRowsRejected())
+                .withRowsSaved(progress.getRowsSaved())
+                .withRowsPerSecond(rowsPerSecond(started, finished))
+                .withStartedAt(started)
+                .withFinishedAt(finished)
+                .withErrorMessage(errorMessage)
+                .withStages(progress.getStageStatistics())
+                .withRejectedRowsReport(rejectedRowsReport)
+                .build();
+        }
+
+        private double rowsPerSecond(LocalDateTime started, LocalDateTime finished) {
+            if (started == null) {
+                return 0;
+            }
+            long elapsedMillis = Duration.between(started, finished != null ? finished : LocalDateTime.now()).toMillis();
+            return elapsedMillis == 0 ? 0 : progress.getRowsParsed() * 1000.0 / elapsedMillis;
+        }
+    }
+}
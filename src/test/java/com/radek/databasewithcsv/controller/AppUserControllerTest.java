@@ -1,24 +1,55 @@
 package com.radek.databasewithcsv.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.radek.databasewithcsv.csvhelper.AppUserWriter;
+import com.radek.databasewithcsv.csvhelper.CompressionType;
+import com.radek.databasewithcsv.csvhelper.ImportProgress;
+import com.radek.databasewithcsv.csvhelper.RejectedRowReport;
 import com.radek.databasewithcsv.generators.AppUserGenerator;
 import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.AppUserFilter;
+import com.radek.databasewithcsv.model.AppUserSlice;
+import com.radek.databasewithcsv.model.AppUserSortField;
+import com.radek.databasewithcsv.model.CacheStatistics;
+import com.radek.databasewithcsv.model.ContinuationToken;
+import com.radek.databasewithcsv.model.DeletionSummary;
+import com.radek.databasewithcsv.model.ImportJob;
+import com.radek.databasewithcsv.model.ImportJobStatus;
+import com.radek.databasewithcsv.model.ImportSummary;
 import com.radek.databasewithcsv.service.AppUserService;
+import com.radek.databasewithcsv.service.ImportJobService;
 import com.radek.databasewithcsv.service.ServiceOperationException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,9 +58,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @ExtendWith(SpringExtension.class)
 @WebMvcTest
@@ -38,12 +72,362 @@ class AppUserControllerTest {
     @MockBean
     private AppUserService appUserService;
 
+    @MockBean
+    private ImportJobService importJobService;
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private ObjectMapper mapper;
 
+    @Test
+    void shouldAddAppUsersFromFile() throws Exception {
+        ImportSummary summary = ImportSummary.builder().withRowsParsed(3).withRowsRejected(1).withRowsSaved(2).build();
+        when(appUserService.addAppUsers(any(InputStream.class), eq(CompressionType.NONE), any(ImportProgress.class))).thenReturn(summary);
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes());
+
+        mockMvc.perform(multipart("/appUsers").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isCreated())
+            .andExpect(content().json(mapper.writeValueAsString(summary)));
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringAddingAppUsersWhenFileHasNoCorrectAppUser() throws Exception {
+        when(appUserService.addAppUsers(any(InputStream.class), eq(CompressionType.NONE), any(ImportProgress.class)))
+            .thenReturn(ImportSummary.builder().withRowsParsed(2).withRowsRejected(2).withRowsSaved(0).build());
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes());
+
+        mockMvc.perform(multipart("/appUsers").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldImportAppUsersFromFile() throws Exception {
+        ImportSummary summary = ImportSummary.builder().withRowsParsed(3).withRowsRejected(1).withRowsSaved(2).build();
+        when(appUserService.importAppUsers(any(InputStream.class), eq(CompressionType.NONE))).thenReturn(summary);
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes());
+
+        mockMvc.perform(multipart("/appUsers/import").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(summary)));
+
+        verify(appUserService).importAppUsers(any(InputStream.class), eq(CompressionType.NONE));
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringImportingAppUsersWhenFileHasInvalidFormat() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "users.txt", "text/plain", "content".getBytes());
+
+        mockMvc.perform(multipart("/appUsers/import").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).importAppUsers(any(InputStream.class), any(CompressionType.class));
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringImportingAppUsersWhenFileHasNoCorrectAppUser() throws Exception {
+        ImportSummary summary = ImportSummary.builder().withRowsParsed(2).withRowsRejected(2).withRowsSaved(0).build();
+        when(appUserService.importAppUsers(any(InputStream.class), eq(CompressionType.NONE))).thenReturn(summary);
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes());
+
+        mockMvc.perform(multipart("/appUsers/import").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService).importAppUsers(any(InputStream.class), eq(CompressionType.NONE));
+    }
+
+    @Test
+    void shouldImportAppUsersFromGzipCompressedFile() throws Exception {
+        ImportSummary summary = ImportSummary.builder().withRowsParsed(3).withRowsRejected(1).withRowsSaved(2).build();
+        when(appUserService.importAppUsers(any(InputStream.class), eq(CompressionType.GZIP))).thenReturn(summary);
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv.gz", "application/gzip", new byte[] {31, -117});
+
+        mockMvc.perform(multipart("/appUsers/import").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isCreated())
+            .andExpect(content().json(mapper.writeValueAsString(summary)));
+
+        verify(appUserService).importAppUsers(any(InputStream.class), eq(CompressionType.GZIP));
+    }
+
+    @Test
+    void shouldSubmitAsyncImportJobOfZipArchive() throws Exception {
+        ImportJob job = ImportJob.builder().withId("job-id").withStatus(ImportJobStatus.QUEUED).build();
+        when(importJobService.submit(any(Path.class), eq(CompressionType.ZIP), eq(false))).thenReturn(job);
+        MockMultipartFile file = new MockMultipartFile("file", "users.zip", "application/zip", new byte[] {80, 75});
+
+        mockMvc.perform(multipart("/appUsers/import/async").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isAccepted())
+            .andExpect(content().json(mapper.writeValueAsString(job)));
+
+        verify(importJobService).submit(argThat(path -> path.getFileName().toString().endsWith(".zip")), eq(CompressionType.ZIP), eq(false));
+    }
+
+    @Test
+    void shouldDeleteTemporaryFileWhenStoringUploadOfAsyncImportJobFails() throws Exception {
+        List<Path> temporaryFiles = new ArrayList<>();
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes()) {
+            @Override
+            public void transferTo(Path dest) throws IOException {
+                temporaryFiles.add(dest);
+                throw new IOException("Disk is full");
+            }
+        };
+
+        mockMvc.perform(multipart("/appUsers/import/async").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isInternalServerError());
+
+        assertEquals(1, temporaryFiles.size());
+        assertFalse(Files.exists(temporaryFiles.get(0)));
+        verify(importJobService, never()).submit(any(Path.class), any(CompressionType.class), anyBoolean());
+    }
+
+    @Test
+    void shouldSubmitAsyncImportJob() throws Exception {
+        ImportJob job = ImportJob.builder().withId("job-id").withStatus(ImportJobStatus.QUEUED).build();
+        when(importJobService.submit(any(Path.class), eq(CompressionType.NONE), eq(false))).thenReturn(job);
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes());
+
+        mockMvc.perform(multipart("/appUsers/import/async").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isAccepted())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(job)));
+
+        verify(importJobService).submit(any(Path.class), eq(CompressionType.NONE), eq(false));
+    }
+
+    @Test
+    void shouldSubmitAsyncImportJobWithRejectedRowsReport() throws Exception {
+        ImportJob job = ImportJob.builder().withId("job-id").withStatus(ImportJobStatus.QUEUED).withRejectedRowsReport(true).build();
+        when(importJobService.submit(any(Path.class), eq(CompressionType.NONE), eq(true))).thenReturn(job);
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes());
+
+        mockMvc.perform(multipart("/appUsers/import/async").file(file).param("rejectedRowsReport", "true")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isAccepted())
+            .andExpect(content().json(mapper.writeValueAsString(job)));
+
+        verify(importJobService).submit(any(Path.class), eq(CompressionType.NONE), eq(true));
+    }
+
+    @Test
+    void shouldStreamRejectedRowsOfImportedFile() throws Exception {
+        when(appUserService.importAppUsers(any(InputStream.class), eq(CompressionType.NONE), any(ImportProgress.class), any(RejectedRowReport.class))).thenAnswer(invocation -> {
+            RejectedRowReport report = invocation.getArgument(3);
+            report.reject(2, "First name cannot be null", ";Kowalski;1990.01.01;");
+            return invocation.<ImportProgress>getArgument(2).toSummary();
+        });
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes());
+
+        MvcResult result = mockMvc.perform(multipart("/appUsers/import/rejected-rows").file(file))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv"))
+            .andExpect(content().string("line_number;reason;raw_line\n2;\"First name cannot be null\";\";Kowalski;1990.01.01;\"\n"));
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringStreamingRejectedRowsWhenFileHasInvalidFormat() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "users.txt", "text/plain", "content".getBytes());
+
+        mockMvc.perform(multipart("/appUsers/import/rejected-rows").file(file))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).importAppUsers(any(InputStream.class), any(CompressionType.class), any(ImportProgress.class), any(RejectedRowReport.class));
+    }
+
+    @Test
+    void shouldStreamRejectedRowsOfImportedServerFile() throws Exception {
+        Path serverFile = Path.of("/imports/users.csv");
+        when(appUserService.resolveServerFile("users.csv")).thenReturn(Optional.of(serverFile));
+        when(appUserService.importServerFile(eq(serverFile), any(ImportProgress.class), any(RejectedRowReport.class))).thenReturn(new ImportProgress().toSummary());
+
+        MvcResult result = mockMvc.perform(post("/appUsers/import/server-file/rejected-rows").param("fileName", "users.csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string("line_number;reason;raw_line\n"));
+    }
+
+    @Test
+    void shouldStreamFilteredAppUsersAsNdjson() throws Exception {
+        AppUser appUser = AppUserGenerator.generateAppUserWithSpecificIdAndBirthDate(1L, "1985-05-05");
+        AppUserFilter filter = AppUserFilter.builder()
+            .withLastName("Kowalski")
+            .withBornFrom(LocalDate.parse("1980-01-01"))
+            .withBornTo(LocalDate.parse("1990-12-31"))
+            .build();
+        when(appUserService.exportAppUsers(eq(filter), any(AppUserWriter.class))).thenAnswer(invocation -> {
+            invocation.<AppUserWriter>getArgument(1).write(appUser);
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/appUsers/export")
+            .param("format", "ndjson")
+            .param("lastName", "Kowalski")
+            .param("bornFrom", "1980-01-01")
+            .param("bornTo", "1990-12-31"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+            .andExpect(content().string(mapper.writeValueAsString(appUser) + "\n"));
+    }
+
+    @Test
+    void shouldStreamAllAppUsersAsCsvByDefault() throws Exception {
+        when(appUserService.exportAppUsers(eq(AppUserFilter.builder().build()), any(AppUserWriter.class))).thenReturn(0L);
+
+        MvcResult result = mockMvc.perform(get("/appUsers/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(content().string("first_name;last_name;birth_date;phone_no\n"));
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringExportWhenFormatOrDateIsInvalid() throws Exception {
+        mockMvc.perform(get("/appUsers/export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/appUsers/export").param("bornFrom", "1990.01.01"))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).exportAppUsers(any(), any());
+    }
+
+    @Test
+    void shouldReturnNotFoundStatusDuringStreamingRejectedRowsWhenServerFileIsNotAvailable() throws Exception {
+        when(appUserService.resolveServerFile("users.csv")).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/appUsers/import/server-file/rejected-rows").param("fileName", "users.csv"))
+            .andExpect(status().isNotFound());
+
+        verify(appUserService, never()).importServerFile(any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnRejectedRowsReportOfImportJob() throws Exception {
+        Path report = Files.createTempFile("rejected-rows-test", ".csv");
+        Files.writeString(report, "line_number;reason;raw_line\n");
+        when(importJobService.getRejectedRowsReport("job-id")).thenReturn(Optional.of(report));
+
+        mockMvc.perform(get("/appUsers/import/jobs/job-id/rejected-rows"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv"))
+            .andExpect(content().string("line_number;reason;raw_line\n"));
+
+        Files.deleteIfExists(report);
+    }
+
+    @Test
+    void shouldReturnNotFoundStatusWhenRejectedRowsReportDoesNotExist() throws Exception {
+        when(importJobService.getRejectedRowsReport("job-id")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/appUsers/import/jobs/job-id/rejected-rows"))
+            .andExpect(status().isNotFound());
+
+        verify(importJobService).getRejectedRowsReport("job-id");
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenImportQueueIsFull() throws Exception {
+        when(importJobService.submit(any(Path.class), eq(CompressionType.NONE), eq(false))).thenThrow(new RejectedExecutionException());
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv", "first_name;last_name;birth_date;phone_no".getBytes());
+
+        mockMvc.perform(multipart("/appUsers/import/async").file(file)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isServiceUnavailable());
+
+        verify(importJobService).submit(any(Path.class), eq(CompressionType.NONE), eq(false));
+    }
+
+    @Test
+    void shouldImportServerFile() throws Exception {
+        Path serverFile = Path.of("/imports/users.csv");
+        ImportSummary summary = ImportSummary.builder().withRowsParsed(3).withRowsRejected(1).withRowsSaved(2).build();
+        when(appUserService.resolveServerFile("users.csv")).thenReturn(Optional.of(serverFile));
+        when(appUserService.importServerFile(serverFile)).thenReturn(summary);
+
+        mockMvc.perform(post("/appUsers/import/server-file").param("fileName", "users.csv")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(summary)));
+
+        verify(appUserService).importServerFile(serverFile);
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringImportingServerFileWhenFileNameIsMissing() throws Exception {
+        mockMvc.perform(post("/appUsers/import/server-file")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).resolveServerFile(any());
+    }
+
+    @Test
+    void shouldReturnNotFoundStatusWhenServerFileIsNotAvailableForImport() throws Exception {
+        when(appUserService.resolveServerFile("../users.csv")).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/appUsers/import/server-file").param("fileName", "../users.csv")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotFound());
+
+        verify(appUserService, never()).importServerFile(any());
+    }
+
+    @Test
+    void shouldReturnImportJob() throws Exception {
+        ImportJob job = ImportJob.builder().withId("job-id").withStatus(ImportJobStatus.RUNNING).withRowsParsed(10).withRowsSaved(8).withRowsRejected(2).build();
+        when(importJobService.getJob("job-id")).thenReturn(Optional.of(job));
+
+        mockMvc.perform(get("/appUsers/import/jobs/job-id")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(job)));
+
+        verify(importJobService).getJob("job-id");
+    }
+
+    @Test
+    void shouldReturnNotFoundStatusWhenImportJobDoesNotExist() throws Exception {
+        when(importJobService.getJob("job-id")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/appUsers/import/jobs/job-id")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotFound());
+
+        verify(importJobService).getJob("job-id");
+    }
+
     @Test
     void shouldReturnAllAppUsers() throws Exception {
         AppUser appUser1 = AppUserGenerator.generateAppUserWithSpecificIdAndBirthDate(1L, "1990-01-01");
@@ -54,7 +438,7 @@ class AppUserControllerTest {
 
         Page<AppUser> firstPage = new PageImpl<>(List.of(appUser5, appUser1, appUser3, appUser4, appUser2));
 
-        when(appUserService.getFirstPageOfAppUsers()).thenReturn(firstPage);
+        when(appUserService.getAppUsers(0, null, null, null)).thenReturn(firstPage);
 
         String url = "/appUsers";
 
@@ -64,14 +448,14 @@ class AppUserControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(content().json(mapper.writeValueAsString(firstPage)));
 
-        verify(appUserService).getFirstPageOfAppUsers();
+        verify(appUserService).getAppUsers(0, null, null, null);
     }
 
     @Test
     public void shouldReturnEmptyListOfAppUsersWhenThereAreNoAppUsersInTheDatabase() throws Exception {
         List<AppUser> appUsers = new ArrayList<>();
         PageImpl<AppUser> emptyPage = new PageImpl<>(appUsers);
-        when(appUserService.getFirstPageOfAppUsers()).thenReturn(emptyPage);
+        when(appUserService.getAppUsers(0, null, null, null)).thenReturn(emptyPage);
 
         String url = "/appUsers";
 
@@ -80,12 +464,12 @@ class AppUserControllerTest {
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(appUserService).getFirstPageOfAppUsers();
+        verify(appUserService).getAppUsers(0, null, null, null);
     }
 
     @Test
     void shouldReturnInternalServerErrorDuringGettingAllAppUsersWhenSomethingWentWrongOnServer() throws Exception {
-        when(appUserService.getFirstPageOfAppUsers()).thenThrow(new ServiceOperationException());
+        when(appUserService.getAppUsers(0, null, null, null)).thenThrow(new ServiceOperationException());
 
         String url = "/appUsers";
 
@@ -94,7 +478,7 @@ class AppUserControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isInternalServerError());
 
-        verify(appUserService).getFirstPageOfAppUsers();
+        verify(appUserService).getAppUsers(0, null, null, null);
     }
 
     @Test
@@ -105,7 +489,7 @@ class AppUserControllerTest {
 
         Page<AppUser> firstPage = new PageImpl<>(List.of(appUser3, appUser1, appUser2));
 
-        when(appUserService.getAppUsers(1)).thenReturn(firstPage);
+        when(appUserService.getAppUsers(1, null, null, null)).thenReturn(firstPage);
 
         String url = String.format("/appUsers/byPageNumber?pageNumber=%d", 1);
 
@@ -115,13 +499,13 @@ class AppUserControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(content().json(mapper.writeValueAsString(firstPage)));
 
-        verify(appUserService).getAppUsers(1);
+        verify(appUserService).getAppUsers(1, null, null, null);
     }
 
     @Test
     void shouldReturnOkStatusDuringGettingAppUsersByPageNumberWhenPageWithSpecificNumberDoesNotExist() throws Exception {
         Integer number = 5;
-        when(appUserService.getAppUsers(number)).thenReturn(Page.empty());
+        when(appUserService.getAppUsers(number, null, null, null)).thenReturn(Page.empty());
 
         String url = String.format("/appUsers/byPageNumber?pageNumber=%d", number);
 
@@ -130,7 +514,7 @@ class AppUserControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk());
 
-        verify(appUserService).getAppUsers(number);
+        verify(appUserService).getAppUsers(number, null, null, null);
     }
 
     @Test
@@ -145,7 +529,7 @@ class AppUserControllerTest {
 
     @Test
     void shouldReturnInternalServerErrorDuringGettingAppUsersByPageNumberWhenUnexpectedErrorOccur() throws Exception {
-        when(appUserService.getAppUsers(1)).thenThrow(new ServiceOperationException());
+        when(appUserService.getAppUsers(1, null, null, null)).thenThrow(new ServiceOperationException());
 
         String url = String.format("/appUsers/byPageNumber?pageNumber=%d", 1);
 
@@ -154,7 +538,129 @@ class AppUserControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isInternalServerError());
 
-        verify(appUserService).getAppUsers(1);
+        verify(appUserService).getAppUsers(1, null, null, null);
+    }
+
+    @Test
+    void shouldReturnPageOfAppUsersWithRequestedPageSizeAndSorting() throws Exception {
+        AppUser appUser1 = AppUserGenerator.generateAppUserWithSpecificIdAndBirthDate(1L, "1990-01-01");
+        AppUser appUser2 = AppUserGenerator.generateAppUserWithSpecificIdAndBirthDate(2L, "1993-01-01");
+        Page<AppUser> page = new PageImpl<>(List.of(appUser1, appUser2));
+        when(appUserService.getAppUsers(2, 20, AppUserSortField.LAST_NAME, Direction.ASC)).thenReturn(page);
+
+        mockMvc.perform(get("/appUsers/byPageNumber?pageNumber=2&pageSize=20&sortBy=lastName&direction=asc")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(page)));
+
+        verify(appUserService).getAppUsers(2, 20, AppUserSortField.LAST_NAME, Direction.ASC);
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringGettingAppUsersWhenSortFieldIsNotSupported() throws Exception {
+        mockMvc.perform(get("/appUsers?sortBy=phoneNumber")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).getAppUsers(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringGettingAppUsersWhenSortDirectionIsNotSupported() throws Exception {
+        mockMvc.perform(get("/appUsers/byPageNumber?pageNumber=1&direction=sideways")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).getAppUsers(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringGettingAppUsersWhenPageSizeIsNotPositive() throws Exception {
+        mockMvc.perform(get("/appUsers/byPageNumber?pageNumber=1&pageSize=0")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).getAppUsers(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnFirstSliceOfAppUsers() throws Exception {
+        AppUser appUser = AppUserGenerator.generateAppUserWithSpecificIdAndBirthDate(1L, "1990-01-01");
+        AppUserSlice slice = AppUserSlice.builder().withContent(List.of(appUser)).withNextToken(ContinuationToken.of(LocalDate.of(1990, 1, 1), 1L).encode()).build();
+        when(appUserService.getAppUsersAfter(null, false)).thenReturn(slice);
+
+        mockMvc.perform(get("/appUsers/seek")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(slice)));
+
+        verify(appUserService).getAppUsersAfter(null, false);
+    }
+
+    @Test
+    void shouldReturnSliceOfAppUsersAfterContinuationTokenWithTotalCount() throws Exception {
+        ContinuationToken token = ContinuationToken.of(LocalDate.of(1990, 1, 1), 1L);
+        AppUserSlice slice = AppUserSlice.builder().withContent(List.of()).withTotalCount(1L).build();
+        when(appUserService.getAppUsersAfter(token, true)).thenReturn(slice);
+
+        mockMvc.perform(get(String.format("/appUsers/seek?token=%s&withTotalCount=true", token.encode()))
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(slice)));
+
+        verify(appUserService).getAppUsersAfter(token, true);
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringGettingSliceOfAppUsersWhenContinuationTokenHasNoBirthDate() throws Exception {
+        mockMvc.perform(get(String.format("/appUsers/seek?token=%s", ContinuationToken.of(1L).encode()))
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).getAppUsersAfter(any(), eq(false));
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringGettingSliceOfAppUsersWhenContinuationTokenIsInvalid() throws Exception {
+        mockMvc.perform(get("/appUsers/seek?token=invalid")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).getAppUsersAfter(any(), eq(false));
+    }
+
+    @Test
+    void shouldReturnInternalServerErrorDuringGettingSliceOfAppUsersWhenUnexpectedErrorOccur() throws Exception {
+        when(appUserService.getAppUsersAfter(null, false)).thenThrow(new ServiceOperationException());
+
+        mockMvc.perform(get("/appUsers/seek")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isInternalServerError());
+
+        verify(appUserService).getAppUsersAfter(null, false);
+    }
+
+    @Test
+    void shouldReturnCacheStatistics() throws Exception {
+        CacheStatistics statistics = CacheStatistics.builder().withHits(3).withMisses(1).withEvictions(2).withSize(1).build();
+        when(appUserService.getCacheStatistics()).thenReturn(statistics);
+
+        mockMvc.perform(get("/appUsers/cache/stats")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(statistics)));
+
+        verify(appUserService).getCacheStatistics();
     }
 
     @Test
@@ -209,7 +715,7 @@ class AppUserControllerTest {
         String searchResult = "kow";
         List<AppUser> searchedAppUsers = List.of(appUser2, appUser1);
 
-        when(appUserService.getAppUsersByLastName(searchResult)).thenReturn(searchedAppUsers);
+        when(appUserService.getAppUsersByLastName(searchResult, null)).thenReturn(searchedAppUsers);
 
         String url = String.format("/appUsers/byLastName?lastName=%s", searchResult);
 
@@ -219,7 +725,68 @@ class AppUserControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(content().json(mapper.writeValueAsString(searchedAppUsers)));
 
-        verify(appUserService).getAppUsersByLastName(searchResult);
+        verify(appUserService).getAppUsersByLastName(searchResult, null);
+    }
+
+    @Test
+    void shouldReturnLimitedAppUsersByLastName() throws Exception {
+        List<AppUser> searchedAppUsers = List.of(AppUserGenerator.generateAppUserWithLastNameAndBirthDate("Kowalski", "1990-01-01"));
+        when(appUserService.getAppUsersByLastName("kow", 1)).thenReturn(searchedAppUsers);
+
+        mockMvc.perform(get("/appUsers/byLastName?lastName=kow&limit=1")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(searchedAppUsers)));
+
+        verify(appUserService).getAppUsersByLastName("kow", 1);
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringGettingAppUserByLastNameWhenLimitIsNotPositive() throws Exception {
+        mockMvc.perform(get("/appUsers/byLastName?lastName=kow&limit=0")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).getAppUsersByLastName(any(), any());
+    }
+
+    @Test
+    void shouldReturnSliceOfAppUsersByLastName() throws Exception {
+        ContinuationToken token = ContinuationToken.of(3L);
+        AppUserSlice slice = AppUserSlice.builder()
+            .withContent(List.of(AppUserGenerator.generateAppUserWithLastNameAndBirthDate("Kowalski", "1990-01-01")))
+            .withNextToken(ContinuationToken.of(4L).encode())
+            .withTotalCount(7L)
+            .build();
+        when(appUserService.getAppUsersByLastNameAfter("kow", token, 1, true)).thenReturn(slice);
+
+        mockMvc.perform(get(String.format("/appUsers/byLastName/seek?lastName=kow&token=%s&pageSize=1&withTotalCount=true", token.encode()))
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(mapper.writeValueAsString(slice)));
+
+        verify(appUserService).getAppUsersByLastNameAfter("kow", token, 1, true);
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringGettingSliceOfAppUsersByLastNameWhenTokenIsInvalid() throws Exception {
+        mockMvc.perform(get("/appUsers/byLastName/seek?lastName=kow&token=invalid")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).getAppUsersByLastNameAfter(any(), any(), any(), eq(false));
+    }
+
+    @Test
+    void shouldReturnBadRequestDuringGettingSliceOfAppUsersByLastNameWhenLastNameIsNull() throws Exception {
+        mockMvc.perform(get("/appUsers/byLastName/seek")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -235,7 +802,7 @@ class AppUserControllerTest {
     @Test
     void shouldReturnInternalServerErrorDuringGettingAppUserByLastNameWhenUnexpectedErrorOccur() throws Exception {
         String searchName = "kowalski";
-        when(appUserService.getAppUsersByLastName(searchName)).thenThrow(new ServiceOperationException());
+        when(appUserService.getAppUsersByLastName(searchName, null)).thenThrow(new ServiceOperationException());
 
         String url = String.format("/appUsers/byLastName?lastName=%s", searchName);
 
@@ -244,7 +811,7 @@ class AppUserControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isInternalServerError());
 
-        verify(appUserService).getAppUsersByLastName(searchName);
+        verify(appUserService).getAppUsersByLastName(searchName, null);
     }
 
     @Test
@@ -295,8 +862,7 @@ class AppUserControllerTest {
     @Test
     void shouldDeleteAppUserById() throws Exception {
         AppUser appUser = AppUserGenerator.generateAppUserWithId(10L);
-        when(appUserService.existsById(appUser.getId())).thenReturn(true);
-        doNothing().when(appUserService).deleteById(appUser.getId());
+        when(appUserService.deleteById(appUser.getId())).thenReturn(true);
 
         String url = String.format("/appUsers/%d", appUser.getId());
 
@@ -304,15 +870,14 @@ class AppUserControllerTest {
             .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isNoContent());
 
-        verify(appUserService).existsById(appUser.getId());
         verify(appUserService).deleteById(appUser.getId());
+        verify(appUserService, never()).existsById(appUser.getId());
     }
 
     @Test
     void shouldDeleteAppUserMethodReturnNotFoundStatusWhenAppUserNotExists() throws Exception {
         long id = 10L;
-        when(appUserService.existsById(id)).thenReturn(false);
-        doNothing().when(appUserService).deleteById(id);
+        when(appUserService.deleteById(id)).thenReturn(false);
 
         String url = String.format("/appUsers/%d", id);
 
@@ -320,14 +885,12 @@ class AppUserControllerTest {
             .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isNotFound());
 
-        verify(appUserService).existsById(id);
-        verify(appUserService, never()).deleteById(id);
+        verify(appUserService).deleteById(id);
     }
 
     @Test
     void shouldReturnInternalServerErrorDuringDeletingAppUserByIdWhenUnexpectedErrorOccur() throws Exception {
         Long appUserId = 1L;
-        when(appUserService.existsById(appUserId)).thenReturn(true);
         doThrow(ServiceOperationException.class).when(appUserService).deleteById(appUserId);
 
         String url = String.format("/appUsers/%d", appUserId);
@@ -337,7 +900,6 @@ class AppUserControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isInternalServerError());
 
-        verify(appUserService).existsById(appUserId);
         verify(appUserService).deleteById(appUserId);
     }
 
@@ -354,6 +916,57 @@ class AppUserControllerTest {
         verify(appUserService).deleteAll();
     }
 
+    @Test
+    void shouldDeleteAppUsersByIdsAndReportMissingIds() throws Exception {
+        DeletionSummary summary = DeletionSummary.builder().withDeletedCount(2).withMissingIds(List.of(3L)).build();
+        when(appUserService.deleteByIds(List.of(1L, 2L, 3L))).thenReturn(summary);
+
+        mockMvc.perform(delete("/appUsers/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[1, 2, 3]")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json(mapper.writeValueAsString(summary)));
+
+        verify(appUserService).deleteByIds(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenDeletingAppUsersByIdsContainingNull() throws Exception {
+        mockMvc.perform(delete("/appUsers/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[1, null]")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void shouldDeleteAppUsersByIdRange() throws Exception {
+        when(appUserService.deleteByIdRange(1L, 100L)).thenReturn(42L);
+
+        mockMvc.perform(delete("/appUsers/range")
+            .param("fromId", "1")
+            .param("toId", "100")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json("42"));
+
+        verify(appUserService).deleteByIdRange(1L, 100L);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenDeletingAppUsersByReversedIdRange() throws Exception {
+        mockMvc.perform(delete("/appUsers/range")
+            .param("fromId", "100")
+            .param("toId", "1")
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(appUserService, never()).deleteByIdRange(100L, 1L);
+    }
+
     @Test
     void shouldReturnInternalServerErrorDuringDeletingAllUsersWhenUnexpectedErrorOccur() throws Exception {
         doThrow(ServiceOperationException.class).when(appUserService).deleteAll();
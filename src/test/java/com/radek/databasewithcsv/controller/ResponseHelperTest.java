@@ -65,6 +65,46 @@ class ResponseHelperTest {
         assertEquals("Response body cannot be null", exception.getMessage());
     }
 
+    @Test
+    void shouldCreateJsonResponseWithAcceptedStatus() {
+        Object body = "Any accepted job";
+        ResponseEntity<?> expected = createExpectedResponse(body, MediaType.APPLICATION_JSON, HttpStatus.ACCEPTED);
+        ResponseEntity<?> response = ResponseHelper.createJsonAcceptedResponse(body);
+        assertEquals(expected, response);
+    }
+
+    @Test
+    void createJsonAcceptedResponseMethodShouldThrowExceptionWhenNullIsPassedAsBody() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ResponseHelper.createJsonAcceptedResponse(null));
+        assertEquals("Response body cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldCreateCsvResponseWithOkStatus() {
+        ResponseEntity<?> expected = createExpectedResponse("line_number;reason;raw_line", MediaType.valueOf("text/csv"), HttpStatus.OK);
+        ResponseEntity<?> response = ResponseHelper.createCsvOkResponse("line_number;reason;raw_line");
+        assertEquals(expected, response);
+    }
+
+    @Test
+    void createCsvOkResponseMethodShouldThrowExceptionWhenNullIsPassedAsBody() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ResponseHelper.createCsvOkResponse(null));
+        assertEquals("Response body cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldCreateResponseWithOkStatusAndGivenContentType() {
+        ResponseEntity<?> expected = createExpectedResponse("{}", MediaType.valueOf("application/x-ndjson"), HttpStatus.OK);
+        ResponseEntity<?> response = ResponseHelper.createOkResponse("{}", MediaType.valueOf("application/x-ndjson"));
+        assertEquals(expected, response);
+    }
+
+    @Test
+    void createOkResponseMethodShouldThrowExceptionWhenNullIsPassedAsContentType() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ResponseHelper.createOkResponse("{}", null));
+        assertEquals("Response body and content type cannot be null", exception.getMessage());
+    }
+
     private ResponseEntity<?> createExpectedResponse(Object body, MediaType mediaType, HttpStatus status) {
         HttpHeaders responseHeaders = new HttpHeaders();
         responseHeaders.setContentType(mediaType);
@@ -3,17 +3,34 @@ package com.radek.databasewithcsv.csvhelper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.ImportSummary;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 class CustomCsvReaderIT {
 
@@ -75,8 +92,158 @@ class CustomCsvReaderIT {
         assertEquals("An error occurred while parsing file content to object - remove empty lines and redundant columns", exception.getMessage());
     }
 
+    @Test
+    void shouldReadAppUsersMethodPassValidatedAppUsersInChunks() throws IOException, CsvCustomParsingException {
+        List<List<AppUser>> chunks = new ArrayList<>();
+        ImportSummary summary;
+        try (InputStream inputStream = Files.newInputStream(Path.of(String.format(INPUT_PATH, "correct")))) {
+            summary = CustomCsvReader.readAppUsers(inputStream, 2, chunk -> {
+                chunks.add(chunk);
+                return chunk;
+            });
+        }
+        assertEquals(ImportSummary.builder().withRowsParsed(8).withRowsRejected(5).withRowsSaved(3).build(), summary);
+        assertEquals(2, chunks.size());
+        assertEquals(readAppUsersFromFile("correct"), chunks.stream().flatMap(List::stream).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldReadAppUsersMethodThrowExceptionWhenFileContainsEmptyLines() throws IOException {
+        try (InputStream inputStream = Files.newInputStream(Path.of(String.format(INPUT_PATH, "emptyLine")))) {
+            CsvCustomParsingException exception = assertThrows(CsvCustomParsingException.class, () -> CustomCsvReader.readAppUsers(inputStream, 2, chunk -> chunk));
+            assertEquals("An error occurred while parsing file content to object - remove empty lines and redundant columns", exception.getMessage());
+        }
+    }
+
+    @Test
+    void shouldReadAppUsersMethodAggregateRejectionReasons() throws IOException, CsvCustomParsingException {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + ";Kowalski;1987.08.07;\n"
+            + "Jan;Nowak;1987.13.07;123\n"
+            + ";Nowak;1987.08.07;600700800\n"
+            + "Jan;Nowak;1987.08.07;600700800\n";
+        ImportProgress progress = new ImportProgress();
+
+        CustomCsvReader.readAppUsers(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), 10, chunk -> chunk, progress);
+
+        assertEquals(3, progress.getRowsRejected());
+        assertEquals(Map.of("First name cannot be null", 2L, "Incorrect format of birth date", 1L, "Incorrect format of phone number", 1L), progress.getRejectionReasons());
+    }
+
+    @Test
+    void shouldGzipRowReaderReturnSameAppUsersAsUncompressedFile() throws IOException, CsvCustomParsingException {
+        byte[] fileContent = Files.readAllBytes(Path.of(String.format(INPUT_PATH, "correct")));
+
+        List<AppUser> appUsers = readAll(CustomCsvReader.openRowReader(new ByteArrayInputStream(gzip(fileContent)), CsvParserType.FAST, CompressionType.GZIP));
+
+        assertEquals(readAll(CustomCsvReader.openRowReader(new ByteArrayInputStream(fileContent), CsvParserType.FAST)), appUsers);
+    }
+
+    @Test
+    void shouldZipRowReaderReturnAppUsersOfAllCsvEntries() throws IOException, CsvCustomParsingException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("first.csv", "first_name;last_name;birth_date;phone_no\nStefan;Testowy;1988.11.11;600700800\n");
+        entries.put("notes.txt", "not a csv file");
+        entries.put("nested/", "");
+        entries.put("nested/SECOND.CSV", "first_name;last_name;birth_date;phone_no\nJolanta;Magia;2000.2.04;666000111\nJan;Nowak;1987.08.07;600700801");
+
+        List<AppUser> appUsers = new ArrayList<>();
+        List<Long> lineNumbers = new ArrayList<>();
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(zip(entries)), CsvParserType.FAST, CompressionType.ZIP)) {
+            AppUser appUser;
+            while ((appUser = rowReader.next()) != null) {
+                appUsers.add(appUser);
+                lineNumbers.add(rowReader.getLineNumber());
+            }
+        }
+
+        assertEquals(List.of("Stefan", "Jolanta", "Jan"), appUsers.stream().map(AppUser::getFirstName).collect(Collectors.toList()));
+        assertEquals(List.of(2L, 2L, 3L), lineNumbers);
+    }
+
+    @Test
+    void shouldZipRowReaderReturnNoAppUsersWhenArchiveContainsNoCsvEntries() throws IOException, CsvCustomParsingException {
+        byte[] archive = zip(Map.of("notes.txt", "not a csv file"));
+
+        assertTrue(readAll(CustomCsvReader.openRowReader(new ByteArrayInputStream(archive), CsvParserType.OPENCSV, CompressionType.ZIP)).isEmpty());
+    }
+
+    @Test
+    void shouldOpenRowReaderMethodThrowExceptionWhenFileIsNotGzipArchive() {
+        byte[] fileContent = "first_name;last_name;birth_date;phone_no\n".getBytes(StandardCharsets.UTF_8);
+
+        CsvCustomParsingException exception = assertThrows(CsvCustomParsingException.class,
+            () -> CustomCsvReader.openRowReader(new ByteArrayInputStream(fileContent), CsvParserType.FAST, CompressionType.GZIP));
+        assertEquals("An error occurred while decompressing file - file is not a valid gzip archive", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @EnumSource(CsvParserType.class)
+    void shouldRowReaderThrowParsingExceptionWhenGzipArchiveIsTruncated(CsvParserType parserType) throws IOException {
+        StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append("Stefan;Testowy;1988.11.11;").append(600000000 + i).append('\n');
+        }
+        byte[] archive = gzip(content.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] truncatedArchive = Arrays.copyOf(archive, archive.length / 2);
+
+        assertThrows(CsvCustomParsingException.class,
+            () -> readAll(CustomCsvReader.openRowReader(new ByteArrayInputStream(truncatedArchive), parserType, CompressionType.GZIP)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(CsvParserType.class)
+    void shouldRowReaderThrowParsingExceptionWhenZipArchiveIsCorrupted(CsvParserType parserType) throws IOException {
+        StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append("Stefan;Testowy;1988.11.11;").append(600000000 + i).append('\n');
+        }
+        byte[] archive = zip(Map.of("users.csv", content.toString()));
+        byte[] truncatedArchive = Arrays.copyOf(archive, archive.length / 2);
+
+        assertThrows(CsvCustomParsingException.class,
+            () -> readAll(CustomCsvReader.openRowReader(new ByteArrayInputStream(truncatedArchive), parserType, CompressionType.ZIP)));
+    }
+
+    @Test
+    void shouldDecompressionErrorNameFormatOfInvalidArchive() {
+        assertEquals("An error occurred while decompressing file - file is not a valid zip archive",
+            CustomCsvReader.decompressionError(CompressionType.ZIP, new ZipException("invalid entry")).getMessage());
+    }
+
     private List<AppUser> readAppUsersFromFile(String fileName) throws IOException, CsvCustomParsingException {
         byte[] fileContent = Files.readAllBytes(Path.of(String.format(INPUT_PATH, "correct")));
         return reader.appUserBuilder(fileContent);
     }
+
+    private List<AppUser> readAll(AppUserRowReader rowReader) throws IOException, CsvCustomParsingException {
+        List<AppUser> appUsers = new ArrayList<>();
+        try (rowReader) {
+            AppUser appUser;
+            while ((appUser = rowReader.next()) != null) {
+                appUsers.add(appUser);
+            }
+        }
+        return appUsers;
+    }
+
+    private byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private byte[] zip(Map<String, String> entries) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getKey()));
+                zipOutputStream.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+        }
+        return outputStream.toByteArray();
+    }
 }
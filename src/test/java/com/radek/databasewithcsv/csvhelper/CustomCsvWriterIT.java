@@ -0,0 +1,91 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class CustomCsvWriterIT {
+
+    private static final List<AppUser> APP_USERS = List.of(
+        AppUser.builder().withFirstName("Stefan").withLastName("Testowy").withBirthDate("1988-11-11").withPhoneNumber("600700800").build(),
+        AppUser.builder().withFirstName("Maria").withLastName("Zió;łko").withBirthDate("1999-01-01").withPhoneNumber("").build(),
+        AppUser.builder().withFirstName("Jan").withLastName("Kowal\"ski").withBirthDate("1970-05-21").withPhoneNumber("500600700").build()
+    );
+
+    @ParameterizedTest
+    @EnumSource(CsvParserType.class)
+    void shouldWriteCsvReadableByCustomCsvReader(CsvParserType parserType) throws IOException, CsvCustomParsingException {
+        byte[] content = write(APP_USERS, ExportFormat.CSV);
+
+        assertEquals(APP_USERS, readAll(content, parserType));
+    }
+
+    @Test
+    void shouldWriteOnlyHeaderWhenThereAreNoAppUsers() throws IOException {
+        byte[] content = write(List.of(), ExportFormat.CSV);
+
+        assertEquals("first_name;last_name;birth_date;phone_no\n", new String(content, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        byte[] content = write(APP_USERS, ExportFormat.NDJSON);
+
+        String[] lines = new String(content, StandardCharsets.UTF_8).split("\n");
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(APP_USERS.size(), lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            AppUser appUser = APP_USERS.get(i);
+            Map<String, Object> expected = new HashMap<>();
+            expected.put("id", null);
+            expected.put("firstName", appUser.getFirstName());
+            expected.put("lastName", appUser.getLastName());
+            expected.put("birthDate", appUser.getBirthDate());
+            expected.put("phoneNumber", appUser.getPhoneNumber());
+            assertEquals(expected, objectMapper.readValue(lines[i], Map.class));
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionForNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CustomCsvWriter.openAppUserWriter(null, ExportFormat.CSV));
+        assertThrows(IllegalArgumentException.class, () -> CustomCsvWriter.openAppUserWriter(new ByteArrayOutputStream(), null));
+    }
+
+    private byte[] write(List<AppUser> appUsers, ExportFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (AppUserWriter writer = CustomCsvWriter.openAppUserWriter(outputStream, format)) {
+            for (AppUser appUser : appUsers) {
+                writer.write(appUser);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    private List<AppUser> readAll(byte[] fileContent, CsvParserType parserType) throws IOException, CsvCustomParsingException {
+        List<AppUser> appUsers = new ArrayList<>();
+        try (InputStream inputStream = new ByteArrayInputStream(fileContent); AppUserRowReader rowReader = CustomCsvReader.openRowReader(inputStream, parserType)) {
+            AppUser appUser;
+            while ((appUser = rowReader.next()) != null) {
+                appUsers.add(appUser);
+            }
+        }
+        return appUsers;
+    }
+}
@@ -0,0 +1,72 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FastAppUserRowReaderIT {
+
+    private static final String INPUT_PATH = "src/test/resources/csvHelper/%s.csv";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"correct"})
+    void shouldFastParserReturnSameAppUsersAsOpenCsvParser(String fileName) throws IOException, CsvCustomParsingException {
+        byte[] fileContent = Files.readAllBytes(Path.of(String.format(INPUT_PATH, fileName)));
+
+        assertEquals(readAll(fileContent, CsvParserType.OPENCSV), readAll(fileContent, CsvParserType.FAST));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"emptyLine", "incorrectNumberOfColumns"})
+    void shouldFastParserThrowExceptionForSameFilesAsOpenCsvParser(String fileName) throws IOException {
+        byte[] fileContent = Files.readAllBytes(Path.of(String.format(INPUT_PATH, fileName)));
+
+        assertThrows(CsvCustomParsingException.class, () -> readAll(fileContent, CsvParserType.OPENCSV));
+        CsvCustomParsingException exception = assertThrows(CsvCustomParsingException.class, () -> readAll(fileContent, CsvParserType.FAST));
+        assertEquals("An error occurred while parsing file content to object - remove empty lines and redundant columns", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fileContents")
+    void shouldFastParserHandleLineEndingsQuotesAndColumnOrderLikeOpenCsvParser(String content) throws IOException, CsvCustomParsingException {
+        byte[] fileContent = content.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(readAll(fileContent, CsvParserType.OPENCSV), readAll(fileContent, CsvParserType.FAST));
+    }
+
+    private static Stream<Arguments> fileContents() {
+        return Stream.of(
+            Arguments.of("first_name;last_name;birth_date;phone_no\r\nStefan;Testowy;1988.11.11;600700800\r\nMaria;Ziółko;1999.1.1;\r\n"),
+            Arguments.of("first_name;last_name;birth_date;phone_no\n\"Stefan\";\"Test;owy\";1988.11.11;\"600700800\"\n"),
+            Arguments.of("first_name;last_name;birth_date;phone_no\n \"Jan\";  Kowalski ;1988.1.11;600700800"),
+            Arguments.of("phone_no;birth_date;last_name;first_name\n600700800;1988.11.11;Testowy;Stefan\n")
+        );
+    }
+
+    private List<AppUser> readAll(byte[] fileContent, CsvParserType parserType) throws IOException, CsvCustomParsingException {
+        List<AppUser> appUsers = new ArrayList<>();
+        try (InputStream inputStream = new ByteArrayInputStream(fileContent); AppUserRowReader rowReader = CustomCsvReader.openRowReader(inputStream, parserType)) {
+            AppUser appUser;
+            while ((appUser = rowReader.next()) != null) {
+                appUsers.add(appUser);
+            }
+        }
+        return appUsers;
+    }
+}
@@ -0,0 +1,84 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FileDigestIT {
+
+    private static final FileTime LAST_MODIFIED = FileTime.fromMillis(1_600_000_000_000L);
+
+    @Test
+    void shouldComputeSameFingerprintForFilesWithSameContentAndModificationTime(@TempDir Path directory) throws IOException {
+        Path file = write(directory.resolve("users.csv"), content(200_000));
+        Path copy = write(directory.resolve("copy.csv"), content(200_000));
+
+        assertEquals(64, FileDigest.fingerprint(file).length());
+        assertEquals(FileDigest.fingerprint(file), FileDigest.fingerprint(copy));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 10, 199_999})
+    void shouldComputeDifferentFingerprintWhenSampledByteChanges(int changedByte, @TempDir Path directory) throws IOException {
+        byte[] content = content(200_000);
+        Path file = write(directory.resolve("users.csv"), content);
+        content[changedByte]++;
+        Path changed = write(directory.resolve("changed.csv"), content);
+
+        assertNotEquals(FileDigest.fingerprint(file), FileDigest.fingerprint(changed));
+    }
+
+    @Test
+    void shouldComputeDifferentFingerprintWhenSizeChanges(@TempDir Path directory) throws IOException {
+        Path file = write(directory.resolve("users.csv"), content(200_000));
+        Path changed = write(directory.resolve("changed.csv"), content(200_001));
+
+        assertNotEquals(FileDigest.fingerprint(file), FileDigest.fingerprint(changed));
+    }
+
+    @Test
+    void shouldComputeDifferentFingerprintWhenFileWasModified(@TempDir Path directory) throws IOException {
+        Path file = write(directory.resolve("users.csv"), content(200_000));
+        String fingerprint = FileDigest.fingerprint(file);
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(LAST_MODIFIED.toMillis() + 1000));
+
+        assertNotEquals(fingerprint, FileDigest.fingerprint(file));
+    }
+
+    @Test
+    void shouldComputeFingerprintOfEmptyFile(@TempDir Path directory) throws IOException {
+        Path file = write(directory.resolve("users.csv"), new byte[0]);
+
+        assertEquals(64, FileDigest.fingerprint(file).length());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFileIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> FileDigest.fingerprint(null));
+        assertEquals("File cannot be null", exception.getMessage());
+    }
+
+    private Path write(Path file, byte[] content) throws IOException {
+        Files.write(file, content);
+        return Files.setLastModifiedTime(file, LAST_MODIFIED);
+    }
+
+    private byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        return content;
+    }
+}
@@ -0,0 +1,155 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.radek.databasewithcsv.model.AppUser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MappedCsvReaderIT {
+
+    private static final String INPUT_PATH = "src/test/resources/csvHelper/%s.csv";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 16})
+    void shouldMappedSegmentsReturnSameAppUsersAsOpenCsvParser(int segmentCount) throws IOException, CsvCustomParsingException {
+        Path file = Path.of(String.format(INPUT_PATH, "correct"));
+        List<AppUser> expected = new ArrayList<>();
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(Files.readAllBytes(file)), CsvParserType.OPENCSV)) {
+            readAll(rowReader, expected);
+        }
+
+        List<AppUserRowReader> rowReaders = MappedCsvReader.openRowReaders(file, segmentCount);
+
+        assertTrue(rowReaders.size() <= segmentCount);
+        assertEquals(expected, readAll(rowReaders));
+    }
+
+    @Test
+    void shouldSplitSegmentsOnLineBoundariesOfFileWithWindowsLineEndings(@TempDir Path directory) throws IOException, CsvCustomParsingException {
+        StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no\r\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append("Józef;Testowy;1988.11.11;").append(600000000 + i).append("\r\n");
+        }
+        Path file = Files.writeString(directory.resolve("users.csv"), content);
+
+        List<AppUser> appUsers = readAll(MappedCsvReader.openRowReaders(file, 7));
+
+        assertEquals(1000, appUsers.size());
+        for (int i = 0; i < appUsers.size(); i++) {
+            assertEquals("Józef", appUsers.get(i).getFirstName());
+            assertEquals(String.valueOf(600000000 + i), appUsers.get(i).getPhoneNumber());
+        }
+    }
+
+    @Test
+    void shouldReturnNoAppUsersWhenFileContainsOnlyHeader(@TempDir Path directory) throws IOException, CsvCustomParsingException {
+        Path file = Files.writeString(directory.resolve("users.csv"), "first_name;last_name;birth_date;phone_no");
+
+        assertTrue(readAll(MappedCsvReader.openRowReaders(file, 4)).isEmpty());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFileIsEmpty(@TempDir Path directory) throws IOException {
+        Path file = Files.createFile(directory.resolve("users.csv"));
+
+        assertThrows(CsvCustomParsingException.class, () -> MappedCsvReader.openRowReaders(file, 4));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSegmentContainsIncorrectNumberOfColumns() throws IOException, CsvCustomParsingException {
+        List<AppUserRowReader> rowReaders = MappedCsvReader.openRowReaders(Path.of(String.format(INPUT_PATH, "incorrectNumberOfColumns")), 2);
+
+        assertThrows(CsvCustomParsingException.class, () -> readAll(rowReaders));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 2, 999, 1001, 1500})
+    void shouldResumeReadingAfterGivenLine(long lineNumber, @TempDir Path directory) throws IOException, CsvCustomParsingException {
+        StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no\r\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append("Józef;Testowy;1988.11.11;").append(600000000 + i).append("\r\n");
+        }
+        Path file = Files.writeString(directory.resolve("users.csv"), content);
+        long skippedRows = Math.min(Math.max(lineNumber - 1, 0), 1000);
+
+        List<AppUser> appUsers = new ArrayList<>();
+        try (AppUserRowReader rowReader = MappedCsvReader.openRowReaderAfterLine(file, lineNumber)) {
+            AppUser appUser;
+            while ((appUser = rowReader.next()) != null) {
+                assertEquals(skippedRows + appUsers.size() + 2, rowReader.getLineNumber());
+                appUsers.add(appUser);
+            }
+        }
+
+        assertEquals(1000 - skippedRows, appUsers.size());
+        for (int i = 0; i < appUsers.size(); i++) {
+            assertEquals("Józef", appUsers.get(i).getFirstName());
+            assertEquals(String.valueOf(600000000 + skippedRows + i), appUsers.get(i).getPhoneNumber());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\n", "\r\n", "\r"})
+    void shouldNumberLinesOfSegmentsAndResumeAfterLineWithAnyLineTerminator(String lineTerminator, @TempDir Path directory) throws IOException, CsvCustomParsingException {
+        StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no").append(lineTerminator);
+        for (int i = 0; i < 1000; i++) {
+            content.append("Józef;Testowy;1988.11.11;").append(600000000 + i).append(lineTerminator);
+        }
+        Path file = Files.writeString(directory.resolve("users.csv"), content);
+
+        long expectedLineNumber = 2;
+        for (AppUserRowReader rowReader : MappedCsvReader.openRowReaders(file, 7, true)) {
+            try (rowReader) {
+                AppUser appUser;
+                while ((appUser = rowReader.next()) != null) {
+                    assertEquals(expectedLineNumber, rowReader.getLineNumber());
+                    assertEquals(String.valueOf(600000000 + expectedLineNumber - 2), appUser.getPhoneNumber());
+                    expectedLineNumber++;
+                }
+            }
+        }
+        try (AppUserRowReader rowReader = MappedCsvReader.openRowReaderAfterLine(file, 501)) {
+            assertEquals(String.valueOf(600000500), rowReader.next().getPhoneNumber());
+            assertEquals(502, rowReader.getLineNumber());
+        }
+
+        assertEquals(1002, expectedLineNumber);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenResumingEmptyFile(@TempDir Path directory) throws IOException {
+        Path file = Files.createFile(directory.resolve("users.csv"));
+
+        assertThrows(CsvCustomParsingException.class, () -> MappedCsvReader.openRowReaderAfterLine(file, 2));
+    }
+
+    private List<AppUser> readAll(List<AppUserRowReader> rowReaders) throws IOException, CsvCustomParsingException {
+        List<AppUser> appUsers = new ArrayList<>();
+        for (AppUserRowReader rowReader : rowReaders) {
+            try (rowReader) {
+                readAll(rowReader, appUsers);
+            }
+        }
+        return appUsers;
+    }
+
+    private void readAll(AppUserRowReader rowReader, List<AppUser> appUsers) throws IOException, CsvCustomParsingException {
+        AppUser appUser;
+        while ((appUser = rowReader.next()) != null) {
+            appUsers.add(appUser);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.ImportStageStatistics;
+import com.radek.databasewithcsv.model.ImportSummary;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class PipelinedCsvReaderIT {
+
+    private static final String INPUT_PATH = "src/test/resources/csvHelper/%s.csv";
+
+    @Test
+    void shouldReadAppUsersThroughPipelineWithSameResultAsSequentialReader() throws IOException, CsvCustomParsingException {
+        List<AppUser> savedAppUsers = Collections.synchronizedList(new ArrayList<>());
+        ImportProgress progress = new ImportProgress();
+        ImportSummary summary;
+        try (AppUserRowReader rowReader = openRowReader("correct")) {
+            summary = PipelinedCsvReader.readAppUsers(rowReader, 2, 3, 4, chunk -> {
+                savedAppUsers.addAll(chunk);
+                return chunk;
+            }, progress);
+        }
+        List<AppUser> expectedAppUsers;
+        try (InputStream inputStream = Files.newInputStream(Path.of(String.format(INPUT_PATH, "correct")))) {
+            expectedAppUsers = CustomCsvReader.appUserBuilder(inputStream);
+        }
+        assertEquals(ImportSummary.builder().withRowsParsed(8).withRowsRejected(5).withRowsSaved(3).build(), summary);
+        assertEquals(new HashSet<>(expectedAppUsers), new HashSet<>(savedAppUsers));
+        assertEquals(List.of("parser", "validator", "writer"), progress.getStageStatistics().stream().map(ImportStageStatistics::getStage).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldReadAppUsersThroughPipelineInBoundedChunks() throws IOException, CsvCustomParsingException {
+        StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append("Jan;Kowalski;1990.01.01;").append(500000000 + i).append('\n');
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+        AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), CsvParserType.FAST);
+        ImportSummary summary = PipelinedCsvReader.readAppUsers(rowReader, 300, 2, 2, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk;
+        }, new ImportProgress());
+
+        assertEquals(ImportSummary.builder().withRowsParsed(1000).withRowsRejected(0).withRowsSaved(1000).build(), summary);
+        assertEquals(List.of(300, 300, 300, 100), chunkSizes);
+        assertTrue(chunkSizes.stream().allMatch(size -> size <= 300));
+    }
+
+    @Test
+    void shouldPassAppUsersToChunkHandlerInFileOrderWhenValidatedInParallel() throws IOException, CsvCustomParsingException {
+        StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no\n");
+        List<String> expectedPhoneNumbers = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            boolean valid = (i < 256 || i >= 512) && i % 7 != 0;
+            String phoneNumber = valid ? String.valueOf(500000000 + i) : "12";
+            content.append("Jan;Kowalski;1990.01.01;").append(phoneNumber).append('\n');
+            if (valid) {
+                expectedPhoneNumbers.add(phoneNumber);
+            }
+        }
+        List<String> savedPhoneNumbers = new ArrayList<>();
+        AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), CsvParserType.FAST);
+        PipelinedCsvReader.readAppUsers(rowReader, 100, 8, 4, chunk -> {
+            chunk.forEach(appUser -> savedPhoneNumbers.add(appUser.getPhoneNumber()));
+            return chunk;
+        }, new ImportProgress());
+
+        assertEquals(expectedPhoneNumbers, savedPhoneNumbers);
+    }
+
+    @Test
+    void shouldKeepOrderOfAppUsersWithinEachRowReader() throws IOException, CsvCustomParsingException {
+        List<AppUserRowReader> rowReaders = new ArrayList<>();
+        List<List<String>> expectedPhoneNumbers = new ArrayList<>();
+        for (int reader = 0; reader < 3; reader++) {
+            StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no\n");
+            List<String> phoneNumbers = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                String phoneNumber = String.valueOf(500000000 + reader * 10000 + i);
+                content.append("Jan;Kowalski;1990.01.01;").append(phoneNumber).append('\n');
+                phoneNumbers.add(phoneNumber);
+            }
+            rowReaders.add(CustomCsvReader.openRowReader(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), CsvParserType.FAST));
+            expectedPhoneNumbers.add(phoneNumbers);
+        }
+        List<String> savedPhoneNumbers = new ArrayList<>();
+        PipelinedCsvReader.readAppUsers(rowReaders, 100, 8, 4, chunk -> {
+            chunk.forEach(appUser -> savedPhoneNumbers.add(appUser.getPhoneNumber()));
+            return chunk;
+        }, new ImportProgress(), RejectedRowReport.disabled());
+
+        for (List<String> phoneNumbers : expectedPhoneNumbers) {
+            assertEquals(phoneNumbers, savedPhoneNumbers.stream().filter(phoneNumbers::contains).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void shouldReuseThreadsOfPreviousImports() throws IOException, CsvCustomParsingException {
+        Set<Thread> parserThreads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 10; i++) {
+            AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream("first_name;last_name;birth_date;phone_no\nJan;Kowalski;1990.01.01;500000000\n".getBytes(StandardCharsets.UTF_8)), CsvParserType.FAST);
+            PipelinedCsvReader.readAppUsers(new AppUserRowReader() {
+                @Override
+                public AppUser next() throws IOException, CsvCustomParsingException {
+                    parserThreads.add(Thread.currentThread());
+                    return rowReader.next();
+                }
+
+                @Override
+                public long getLineNumber() {
+                    return rowReader.getLineNumber();
+                }
+
+                @Override
+                public String getRawLine() {
+                    return rowReader.getRawLine();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    rowReader.close();
+                }
+            }, 1, 1, 1, chunk -> chunk, new ImportProgress());
+        }
+
+        assertTrue(parserThreads.size() < 10);
+    }
+
+    @Test
+    void shouldReadAppUsersMethodThrowExceptionWhenFileContainsEmptyLines() throws IOException {
+        try (AppUserRowReader rowReader = openRowReader("emptyLine")) {
+            CsvCustomParsingException exception = assertThrows(CsvCustomParsingException.class, () -> PipelinedCsvReader.readAppUsers(rowReader, 2, 2, 2, chunk -> chunk, new ImportProgress()));
+            assertEquals("An error occurred while parsing file content to object - remove empty lines and redundant columns", exception.getMessage());
+        }
+    }
+
+    @Test
+    void shouldReadAppUsersMethodPropagateChunkHandlerException() {
+        InputStream inputStream = new ByteArrayInputStream("first_name;last_name;birth_date;phone_no\nJan;Kowalski;1990.01.01;500000000\n".getBytes(StandardCharsets.UTF_8));
+        AppUserRowReader rowReader = CustomCsvReader.openRowReader(inputStream, CsvParserType.OPENCSV);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> PipelinedCsvReader.readAppUsers(rowReader, 2, 2, 2, chunk -> {
+            throw new IllegalStateException("Saving failed");
+        }, new ImportProgress()));
+        assertEquals("Saving failed", exception.getMessage());
+    }
+
+    private AppUserRowReader openRowReader(String fileName) throws IOException {
+        return CustomCsvReader.openRowReader(Files.newInputStream(Path.of(String.format(INPUT_PATH, fileName))), CsvParserType.OPENCSV);
+    }
+}
@@ -0,0 +1,195 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.radek.databasewithcsv.database.sql.model.SqlModelMapper;
+import com.radek.databasewithcsv.database.sql.model.SqlModelMapperImpl;
+import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.ImportSummary;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class RejectedRowReportIT {
+
+    private static final String CONTENT = "first_name;last_name;birth_date;phone_no\n"
+        + "Stefan;Testowy;1988.11.11;600700800\n"
+        + ";Kowalski;1987.08.07;\n"
+        + "Jolanta;Magia;2000.2.04;500600700\n"
+        + "\"Jan\";Nowak1;1990.13.01;123\n"
+        + "Maria;Wiśniewska;1999.1.1;\n";
+
+    private static final String EXISTING_PHONE_NUMBER = "500600700";
+
+    private static final Set<String> EXPECTED_REJECTED_ROWS = Set.of(
+        "3;\"First name cannot be null\";\";Kowalski;1987.08.07;\"",
+        "4;\"Phone number is not unique\";\"Jolanta;Magia;2000.2.04;500600700\"",
+        "5;\"Last name should contain only letters, Incorrect format of birth date, Incorrect format of phone number\";\"\"\"Jan\"\";Nowak1;1990.13.01;123\""
+    );
+
+    @ParameterizedTest
+    @EnumSource(CsvParserType.class)
+    void shouldReportInvalidAndUnsavedRowsWithLineNumbersAndRawLines(CsvParserType parserType) throws IOException, CsvCustomParsingException {
+        StringWriter reportContent = new StringWriter();
+        ImportSummary summary;
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)), parserType);
+             RejectedRowReport report = new RejectedRowReport(reportContent)) {
+            summary = CustomCsvReader.readAppUsers(rowReader, 2, RejectedRowReportIT::saveUniquePhoneNumbers, new ImportProgress(), report);
+        }
+
+        assertEquals(ImportSummary.builder().withRowsParsed(5).withRowsRejected(2).withRowsSaved(2).build(), summary);
+        assertEquals(EXPECTED_REJECTED_ROWS, rejectedRows(reportContent));
+    }
+
+    @Test
+    void shouldReportRejectedRowsOfPipelinedImport() throws IOException, CsvCustomParsingException {
+        StringWriter reportContent = new StringWriter();
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)), CsvParserType.FAST);
+             RejectedRowReport report = new RejectedRowReport(reportContent)) {
+            PipelinedCsvReader.readAppUsers(List.of(rowReader), 10, 3, 2, RejectedRowReportIT::saveUniquePhoneNumbers, new ImportProgress(), report);
+        }
+
+        assertEquals(EXPECTED_REJECTED_ROWS, rejectedRows(reportContent));
+    }
+
+    @Test
+    void shouldReportRejectedRowsOfMappedSegmentsWithFileLineNumbers(@TempDir Path directory) throws IOException, CsvCustomParsingException {
+        Path file = Files.writeString(directory.resolve("users.csv"), CONTENT);
+        StringWriter reportContent = new StringWriter();
+        List<AppUserRowReader> rowReaders = MappedCsvReader.openRowReaders(file, 3, true);
+        try (RejectedRowReport report = new RejectedRowReport(reportContent)) {
+            PipelinedCsvReader.readAppUsers(rowReaders, 10, 2, 2, RejectedRowReportIT::saveUniquePhoneNumbers, new ImportProgress(), report);
+        }
+
+        assertEquals(3, rowReaders.size());
+        assertEquals(EXPECTED_REJECTED_ROWS, rejectedRows(reportContent));
+    }
+
+    @ParameterizedTest
+    @EnumSource(CsvParserType.class)
+    void shouldReportOnlyDuplicatedRowWhenChunkMixesEmptyPhoneNumbersWithDuplicates(CsvParserType parserType) throws IOException, CsvCustomParsingException {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + "Maria;Kowalska;1987.08.07;\n"
+            + "Jan;Nowak;1990.01.01;600700800\n"
+            + "Jolanta;Magia;2000.2.04;500500500\n";
+        StringWriter reportContent = new StringWriter();
+        ImportSummary summary;
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), parserType);
+             RejectedRowReport report = new RejectedRowReport(reportContent)) {
+            summary = CustomCsvReader.readAppUsers(rowReader, 10, RejectedRowReportIT::saveThroughSqlModel, new ImportProgress(), report);
+        }
+
+        assertEquals(ImportSummary.builder().withRowsParsed(4).withRowsRejected(0).withRowsSaved(3).build(), summary);
+        assertEquals(Set.of("4;\"Phone number is not unique\";\"Jan;Nowak;1990.01.01;600700800\""), rejectedRows(reportContent));
+    }
+
+    @ParameterizedTest
+    @EnumSource(CsvParserType.class)
+    void shouldReportEarlierRowsOfPhoneNumberOverwrittenWithinUpsertedChunk(CsvParserType parserType) throws IOException, CsvCustomParsingException {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + "Maria;Kowalska;1987.08.07;\n"
+            + "Jan;Nowak;1990.01.01;600700800\n"
+            + "Jolanta;Magia;2000.2.04;500500500\n";
+        StringWriter reportContent = new StringWriter();
+        ImportSummary summary;
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), parserType);
+             RejectedRowReport report = new RejectedRowReport(reportContent)) {
+            summary = CustomCsvReader.readAppUsers(rowReader, 10, RejectedRowReportIT::upsertLastRowsOfPhoneNumbers, new ImportProgress(), report);
+        }
+
+        assertEquals(ImportSummary.builder().withRowsParsed(4).withRowsRejected(0).withRowsSaved(3).build(), summary);
+        assertEquals(Set.of("2;\"Phone number is not unique\";\"Stefan;Testowy;1988.11.11;600700800\""), rejectedRows(reportContent));
+    }
+
+    @ParameterizedTest
+    @EnumSource(CsvParserType.class)
+    void shouldNotReportRowsWithBlankPhoneNumberSavedWithoutPhoneNumber(CsvParserType parserType) throws IOException, CsvCustomParsingException {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Maria;Kowalska;1987.08.07;\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + "Anna;Nowak;1990.01.01;\n"
+            + "Jan;Nowak;1990.01.01;600700800\n"
+            + "Jolanta;Magia;2000.2.04;500500500\n";
+        StringWriter reportContent = new StringWriter();
+        ImportSummary summary;
+        try (AppUserRowReader rowReader = CustomCsvReader.openRowReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), parserType);
+             RejectedRowReport report = new RejectedRowReport(reportContent)) {
+            summary = CustomCsvReader.readAppUsers(rowReader, 10, RejectedRowReportIT::saveWithoutBlankPhoneNumbers, new ImportProgress(), report);
+        }
+
+        assertEquals(ImportSummary.builder().withRowsParsed(5).withRowsRejected(0).withRowsSaved(4).build(), summary);
+        assertEquals(Set.of("5;\"Phone number is not unique\";\"Jan;Nowak;1990.01.01;600700800\""), rejectedRows(reportContent));
+    }
+
+    @Test
+    void shouldNotWriteAnythingWhenReportIsDisabled() throws IOException {
+        RejectedRowReport report = RejectedRowReport.disabled();
+
+        report.reject(1, "reason", "line");
+        report.flush();
+
+        assertFalse(report.isEnabled());
+    }
+
+    private static List<AppUser> saveUniquePhoneNumbers(List<AppUser> appUsers) {
+        return appUsers.stream()
+            .filter(appUser -> !EXISTING_PHONE_NUMBER.equals(appUser.getPhoneNumber()))
+            .collect(Collectors.toList());
+    }
+
+    private static List<AppUser> saveThroughSqlModel(List<AppUser> appUsers) {
+        SqlModelMapper sqlModelMapper = new SqlModelMapperImpl();
+        Set<String> savedPhoneNumbers = new HashSet<>();
+        return appUsers.stream()
+            .map(sqlModelMapper::toSqlAppUser)
+            .filter(appUser -> appUser.getPhoneNumber() == null || savedPhoneNumbers.add(appUser.getPhoneNumber()))
+            .map(sqlModelMapper::toAppUser)
+            .collect(Collectors.toList());
+    }
+
+    private static List<AppUser> upsertLastRowsOfPhoneNumbers(List<AppUser> appUsers) {
+        Map<String, AppUser> lastAppUsers = new HashMap<>();
+        appUsers.forEach(appUser -> lastAppUsers.put(appUser.getPhoneNumber(), appUser));
+        return appUsers.stream()
+            .filter(appUser -> appUser.getPhoneNumber().isEmpty() || lastAppUsers.get(appUser.getPhoneNumber()) == appUser)
+            .collect(Collectors.toList());
+    }
+
+    private static List<AppUser> saveWithoutBlankPhoneNumbers(List<AppUser> appUsers) {
+        Set<String> savedPhoneNumbers = new HashSet<>();
+        return appUsers.stream()
+            .filter(appUser -> appUser.getPhoneNumber() == null || appUser.getPhoneNumber().isEmpty() || savedPhoneNumbers.add(appUser.getPhoneNumber()))
+            .map(appUser -> AppUser.builder()
+                .withFirstName(appUser.getFirstName())
+                .withLastName(appUser.getLastName())
+                .withBirthDate(appUser.getBirthDate())
+                .withPhoneNumber(appUser.getPhoneNumber() == null || appUser.getPhoneNumber().isEmpty() ? null : appUser.getPhoneNumber())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private static Set<String> rejectedRows(StringWriter reportContent) {
+        List<String> lines = Arrays.asList(reportContent.toString().split("\n"));
+        assertEquals(RejectedRowReport.HEADER, lines.get(0));
+        return new HashSet<>(lines.subList(1, lines.size()));
+    }
+}
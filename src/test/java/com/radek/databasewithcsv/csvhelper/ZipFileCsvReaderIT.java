@@ -0,0 +1,75 @@
+package com.radek.databasewithcsv.csvhelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.ImportSummary;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ZipFileCsvReaderIT {
+
+    @Test
+    void shouldReadAppUsersOfAllCsvEntriesOfZipFile(@TempDir Path directory) throws IOException, CsvCustomParsingException {
+        Path file = directory.resolve("users.zip");
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(file))) {
+            for (int entry = 0; entry < 4; entry++) {
+                zipOutputStream.putNextEntry(new ZipEntry("users" + entry + ".csv"));
+                zipOutputStream.write(entryContent(entry).getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+            zipOutputStream.putNextEntry(new ZipEntry("notes.txt"));
+            zipOutputStream.write("not a csv file".getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+        }
+        Set<String> savedPhoneNumbers = ConcurrentHashMap.newKeySet();
+        StringWriter reportContent = new StringWriter();
+        ImportSummary summary;
+
+        try (RejectedRowReport report = new RejectedRowReport(reportContent)) {
+            summary = ZipFileCsvReader.readAppUsers(file, CsvParserType.FAST, 7, 2, 2, appUsers -> {
+                for (AppUser appUser : appUsers) {
+                    savedPhoneNumbers.add(appUser.getPhoneNumber());
+                }
+                return appUsers;
+            }, new ImportProgress(), report);
+        }
+
+        assertEquals(ImportSummary.builder().withRowsParsed(404).withRowsRejected(4).withRowsSaved(400).build(), summary);
+        assertEquals(400, savedPhoneNumbers.size());
+        List<String> lines = Arrays.asList(reportContent.toString().split("\n"));
+        assertEquals(Set.of("102;\"Incorrect format of phone number\";\"Jan;Nowak;1990.01.01;123\""), new HashSet<>(lines.subList(1, lines.size())));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFileIsNotZipArchive(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("users.zip"), "first_name;last_name;birth_date;phone_no\n");
+
+        CsvCustomParsingException exception = assertThrows(CsvCustomParsingException.class,
+            () -> ZipFileCsvReader.readAppUsers(file, CsvParserType.FAST, 7, 2, 2, appUsers -> appUsers, new ImportProgress(), RejectedRowReport.disabled()));
+        assertEquals("An error occurred while decompressing file - file is not a valid zip archive", exception.getMessage());
+    }
+
+    private static String entryContent(int entry) {
+        StringBuilder content = new StringBuilder("first_name;last_name;birth_date;phone_no\n");
+        for (int i = 0; i < 100; i++) {
+            content.append("Stefan;Testowy;1988.11.11;").append(600000000 + entry * 100 + i).append('\n');
+        }
+        return content.append("Jan;Nowak;1990.01.01;123\n").toString();
+    }
+}
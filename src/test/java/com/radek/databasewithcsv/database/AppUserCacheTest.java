@@ -0,0 +1,106 @@
+package com.radek.databasewithcsv.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.radek.databasewithcsv.generators.AppUserGenerator;
+import com.radek.databasewithcsv.model.AppUser;
+import com.radek.databasewithcsv.model.CacheStatistics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class AppUserCacheTest {
+
+    AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void shouldReturnCachedAppUserAndCountHitsAndMisses() {
+        AppUserCache cache = new AppUserCache(10, Duration.ofSeconds(10), nanoTime::get);
+        AppUser appUser = AppUserGenerator.generateAppUserWithId(1L);
+
+        assertEquals(Optional.empty(), cache.get(1L));
+        cache.put(1L, appUser, cache.generation());
+
+        assertEquals(Optional.of(appUser), cache.get(1L));
+        assertEquals(CacheStatistics.builder().withHits(1).withMisses(1).withSize(1).build(), cache.getStatistics());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTimeToLive() {
+        AppUserCache cache = new AppUserCache(10, Duration.ofSeconds(10), nanoTime::get);
+        cache.put(1L, AppUserGenerator.generateAppUserWithId(1L), cache.generation());
+
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals(Optional.empty(), cache.get(1L));
+        assertEquals(CacheStatistics.builder().withMisses(1).withEvictions(1).build(), cache.getStatistics());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenMaxSizeIsExceeded() {
+        AppUserCache cache = new AppUserCache(2, Duration.ofSeconds(10), nanoTime::get);
+        AppUser appUser1 = AppUserGenerator.generateAppUserWithId(1L);
+        AppUser appUser3 = AppUserGenerator.generateAppUserWithId(3L);
+        cache.put(1L, appUser1, cache.generation());
+        cache.put(2L, AppUserGenerator.generateAppUserWithId(2L), cache.generation());
+        cache.get(1L);
+
+        cache.put(3L, appUser3, cache.generation());
+
+        assertEquals(Optional.of(appUser1), cache.get(1L));
+        assertEquals(Optional.empty(), cache.get(2L));
+        assertEquals(Optional.of(appUser3), cache.get(3L));
+        assertEquals(1, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    void shouldInvalidateEntries() {
+        AppUserCache cache = new AppUserCache(10, Duration.ofSeconds(10), nanoTime::get);
+        cache.put(1L, AppUserGenerator.generateAppUserWithId(1L), cache.generation());
+        cache.put(2L, AppUserGenerator.generateAppUserWithId(2L), cache.generation());
+        cache.put(3L, AppUserGenerator.generateAppUserWithId(3L), cache.generation());
+
+        cache.invalidate(1L);
+        cache.invalidate(List.of(2L));
+
+        assertEquals(Optional.empty(), cache.get(1L));
+        assertEquals(Optional.empty(), cache.get(2L));
+        assertEquals(1, cache.getStatistics().getSize());
+
+        cache.invalidateAll();
+
+        assertEquals(Optional.empty(), cache.get(3L));
+    }
+
+    @Test
+    void shouldNotCacheAppUserReadBeforeInvalidation() {
+        AppUserCache cache = new AppUserCache(10, Duration.ofSeconds(10), nanoTime::get);
+        long generation = cache.generation();
+
+        cache.invalidate(1L);
+        cache.put(1L, AppUserGenerator.generateAppUserWithId(1L), generation);
+
+        assertEquals(Optional.empty(), cache.get(1L));
+    }
+
+    @Test
+    void shouldNotCacheAnythingWhenMaxSizeIsZero() {
+        AppUserCache cache = new AppUserCache(0, Duration.ofSeconds(10), nanoTime::get);
+
+        cache.put(1L, AppUserGenerator.generateAppUserWithId(1L), cache.generation());
+
+        assertEquals(Optional.empty(), cache.get(1L));
+        assertEquals(0, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenMaxSizeIsNegative() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new AppUserCache(-1, Duration.ofSeconds(10), nanoTime::get));
+        assertEquals("Cache size and time to live cannot be negative", exception.getMessage());
+    }
+}
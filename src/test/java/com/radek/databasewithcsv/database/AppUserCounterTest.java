@@ -0,0 +1,141 @@
+package com.radek.databasewithcsv.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class AppUserCounterTest {
+
+    AtomicLong nanoTime = new AtomicLong();
+    AppUserCounter appUserCounter = new AppUserCounter(Duration.ofSeconds(60), nanoTime::get);
+
+    @Test
+    void shouldBeUnknownBeforeFirstReconciliation() {
+        appUserCounter.added(5);
+
+        assertEquals(OptionalLong.empty(), appUserCounter.get());
+    }
+
+    @Test
+    void shouldApplyIncrementsAndDecrementsAfterReconciliation() {
+        assertEquals(10, appUserCounter.reconcile(() -> 10));
+
+        appUserCounter.added(5);
+        appUserCounter.removed(2);
+
+        assertEquals(OptionalLong.of(13), appUserCounter.get());
+    }
+
+    @Test
+    void shouldRequireReconciliationAfterInterval() {
+        appUserCounter.reconcile(() -> 10);
+
+        nanoTime.addAndGet(Duration.ofSeconds(60).toNanos());
+
+        assertEquals(OptionalLong.empty(), appUserCounter.get());
+    }
+
+    @Test
+    void shouldWaitWithReconciliationUntilStartedWriteIsFinished() throws Exception {
+        AtomicLong storedCount = new AtomicLong(10);
+        appUserCounter.reconcile(storedCount::get);
+        CountDownLatch reconciliationStarted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            appUserCounter.writeStarted();
+            storedCount.incrementAndGet();
+            Future<Long> reconciliation = executor.submit(() -> {
+                reconciliationStarted.countDown();
+                return appUserCounter.reconcile(storedCount::get);
+            });
+            reconciliationStarted.await();
+            Thread.sleep(50);
+            assertFalse(reconciliation.isDone());
+            appUserCounter.added(1);
+            appUserCounter.writeFinished();
+
+            assertEquals(11, reconciliation.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(OptionalLong.of(11), appUserCounter.get());
+    }
+
+    @Test
+    void shouldStayExactWhileAppUsersAreConcurrentlyAddedAndRemoved() throws Exception {
+        AtomicLong storedCount = new AtomicLong();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                writers.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        appUserCounter.writeStarted();
+                        try {
+                            storedCount.addAndGet(2);
+                            appUserCounter.added(2);
+                        } finally {
+                            appUserCounter.writeFinished();
+                        }
+                        appUserCounter.writeStarted();
+                        try {
+                            storedCount.decrementAndGet();
+                            appUserCounter.removed(1);
+                        } finally {
+                            appUserCounter.writeFinished();
+                        }
+                    }
+                }));
+            }
+            for (int i = 0; i < 1000; i++) {
+                nanoTime.addAndGet(Duration.ofSeconds(60).toNanos());
+                assertEquals(OptionalLong.empty(), appUserCounter.get());
+                appUserCounter.reconcile(storedCount::get);
+                assertTrue(appUserCounter.get().isPresent());
+            }
+            writing.set(false);
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(OptionalLong.of(storedCount.get()), appUserCounter.get());
+    }
+
+    @Test
+    void shouldBeZeroAfterAllAppUsersWereDeleted() {
+        appUserCounter.cleared();
+
+        assertEquals(OptionalLong.of(0), appUserCounter.get());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCountQueryIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserCounter.reconcile(null));
+        assertEquals("Count query cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenReconciliationIntervalIsNegative() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new AppUserCounter(Duration.ofSeconds(-1), nanoTime::get));
+        assertEquals("Reconciliation interval cannot be negative", exception.getMessage());
+    }
+}
@@ -1,47 +1,80 @@
 package com.radek.databasewithcsv.database;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.radek.databasewithcsv.database.sql.model.AppUserView;
+import com.radek.databasewithcsv.database.sql.model.ImportCheckpoint;
+import com.radek.databasewithcsv.database.sql.model.IndexedAppUserView;
 import com.radek.databasewithcsv.database.sql.model.SqlModelMapper;
 import com.radek.databasewithcsv.database.sql.model.SqlModelMapperImpl;
 import com.radek.databasewithcsv.generators.AppUserGenerator;
 import com.radek.databasewithcsv.model.AppUser;
-
+import com.radek.databasewithcsv.model.AppUserFilter;
+import com.radek.databasewithcsv.model.AppUserSlice;
+import com.radek.databasewithcsv.model.AppUserSortField;
+import com.radek.databasewithcsv.model.CacheStatistics;
+import com.radek.databasewithcsv.model.ContinuationToken;
+import com.radek.databasewithcsv.model.DeletionSummary;
+import com.radek.databasewithcsv.model.ImportMode;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 @ExtendWith(MockitoExtension.class)
 class AppUserDatabaseTest {
 
     @Mock
     AppUserRepository appUserRepository;
+    @Mock
+    ImportCheckpointRepository importCheckpointRepository;
     SqlModelMapper sqlModelMapper = new SqlModelMapperImpl();
+    LastNameIndex lastNameIndex = new LastNameIndex();
+    AppUserCache appUserCache = new AppUserCache(100, Duration.ofMinutes(10), System::nanoTime);
+    PhoneNumberIndex phoneNumberIndex = new PhoneNumberIndex();
+    AppUserCounter appUserCounter = new AppUserCounter(Duration.ofMinutes(1), System::nanoTime);
     AppUserDatabase database;
 
     @BeforeEach
     void setUp() {
-        database = new AppUserDatabase(appUserRepository, sqlModelMapper);
+        database = new AppUserDatabase(appUserRepository, sqlModelMapper, lastNameIndex, appUserCache, phoneNumberIndex, appUserCounter, importCheckpointRepository);
     }
 
     @Test
@@ -60,6 +93,33 @@ class AppUserDatabaseTest {
         verify(appUserRepository).saveAll(sqlAppUsersToSave);
     }
 
+    @Test
+    void shouldAddSavedAppUsersToLastNameIndex() throws DatabaseOperationException {
+        AppUser appUser = AppUserGenerator.generateAppUserWithLastName("Kowalski");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
+        com.radek.databasewithcsv.database.sql.model.AppUser savedSqlAppUser = sqlAppUser(7L, appUser.getBirthDate());
+        when(appUserRepository.saveAll(List.of(sqlAppUser))).thenReturn(List.of(savedSqlAppUser));
+
+        database.saveAll(List.of(appUser));
+
+        assertEquals(List.of(7L), lastNameIndex.search(savedSqlAppUser.getLastName(), null, 10));
+    }
+
+    @Test
+    void shouldLoadIndexesFromDatabaseInBatches() {
+        IndexedAppUserView kowalski = indexedAppUserView(1L, "Kowalski", "555666777");
+        IndexedAppUserView nowak = indexedAppUserView(2L, "Nowak", null);
+        when(appUserRepository.findIndexedAppUsersAfter(Long.MIN_VALUE, PageRequest.of(0, 10000))).thenReturn(List.of(kowalski, nowak));
+
+        database.loadIndexes();
+
+        assertEquals(List.of(1L), lastNameIndex.search("kow", null, 10));
+        assertEquals(List.of(2L), lastNameIndex.search("nowak", null, 10));
+        assertTrue(phoneNumberIndex.contains("555666777"));
+        assertEquals(1, phoneNumberIndex.size());
+        verify(appUserRepository).findIndexedAppUsersAfter(Long.MIN_VALUE, PageRequest.of(0, 10000));
+    }
+
     @Test
     void shouldSaveAllMethodThrowExceptionWhenAppUserCollectionIsNull() {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.saveAll(null));
@@ -73,17 +133,45 @@ class AppUserDatabaseTest {
         AppUser appUser3 = AppUserGenerator.generateAppUserWithPhoneNumber("545656777");
 
         List<AppUser> appUsersToSave = List.of(appUser1, appUser2, appUser3);
-        List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlAppUsersToSave = appUsersToSave.stream().map(appUser -> sqlModelMapper.toSqlAppUser(appUser)).collect(Collectors.toList());
         List<AppUser> savedAppUsers = List.of(appUser1, appUser3);
         List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlSavedAppUsers = savedAppUsers.stream().map(appUser -> sqlModelMapper.toSqlAppUser(appUser)).collect(Collectors.toList());
 
-        when(appUserRepository.saveAll(sqlAppUsersToSave)).thenReturn(sqlSavedAppUsers);
+        when(appUserRepository.saveAll(sqlSavedAppUsers)).thenReturn(sqlSavedAppUsers);
 
         Collection<AppUser> result = database.saveAll(appUsersToSave);
 
         assertEquals(savedAppUsers, result);
+        verify(appUserRepository).saveAll(sqlSavedAppUsers);
+    }
 
-        verify(appUserRepository).saveAll(sqlAppUsersToSave);
+    @Test
+    void shouldSaveAllMethodSkipAppUsersWithPhoneNumbersExistingInDatabase() throws DatabaseOperationException {
+        AppUser appUser1 = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        AppUser appUser2 = AppUserGenerator.generateAppUserWithPhoneNumber("");
+        AppUser appUser3 = AppUserGenerator.generateAppUserWithPhoneNumber("545656777");
+        phoneNumberIndex.add(10L, "555666777");
+
+        List<AppUser> appUsersToSave = List.of(appUser1, appUser2, appUser3);
+        List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlSavedAppUsers = List.of(appUser2, appUser3).stream().map(appUser -> sqlModelMapper.toSqlAppUser(appUser)).collect(Collectors.toList());
+
+        when(appUserRepository.saveAll(sqlSavedAppUsers)).thenReturn(sqlSavedAppUsers);
+
+        Collection<AppUser> result = database.saveAll(appUsersToSave);
+
+        assertEquals(sqlSavedAppUsers.stream().map(appUser -> sqlModelMapper.toAppUser(appUser)).collect(Collectors.toList()), result);
+        assertNull(sqlSavedAppUsers.get(0).getPhoneNumber());
+        verify(appUserRepository).saveAll(sqlSavedAppUsers);
+    }
+
+    @Test
+    void shouldAddSavedPhoneNumbersToPhoneNumberIndex() throws DatabaseOperationException {
+        AppUser appUser = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        com.radek.databasewithcsv.database.sql.model.AppUser savedSqlAppUser = sqlAppUser(7L, "1990-01-01", "555666777");
+        when(appUserRepository.saveAll(List.of(sqlModelMapper.toSqlAppUser(appUser)))).thenReturn(List.of(savedSqlAppUser));
+
+        database.saveAll(List.of(appUser));
+
+        assertTrue(database.existsByPhoneNumber("555666777"));
     }
 
     @Test
@@ -99,15 +187,250 @@ class AppUserDatabaseTest {
         verify(appUserRepository).saveAll(sqlAppUsers);
     }
 
+    @Test
+    void shouldUpsertAppUsersUpdatingExistingPhoneNumbersAndInsertingOthers() throws DatabaseOperationException {
+        final AppUser updatedAppUser = AppUser.builder().withFirstName("Jan").withLastName("Nowak").withBirthDate("1990-01-01").withPhoneNumber("555666777").build();
+        AppUser appUserWithoutPhoneNumber = AppUserGenerator.generateAppUserWithPhoneNumber("");
+        AppUser insertedAppUser = AppUserGenerator.generateAppUserWithPhoneNumber("545656777");
+        phoneNumberIndex.add(10L, "555666777");
+        lastNameIndex.add(10L, "Kowalski");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUserWithoutPhoneNumber = sqlModelMapper.toSqlAppUser(appUserWithoutPhoneNumber);
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlInsertedAppUser = sqlModelMapper.toSqlAppUser(insertedAppUser);
+        when(appUserRepository.count()).thenReturn(5L);
+        when(appUserRepository.updateByPhoneNumber(List.of(sqlModelMapper.toSqlAppUser(updatedAppUser)))).thenReturn(new int[] {1});
+        when(appUserRepository.saveAll(List.of(sqlAppUserWithoutPhoneNumber, sqlInsertedAppUser)))
+            .thenReturn(List.of(sqlAppUser(11L, appUserWithoutPhoneNumber.getBirthDate(), null), sqlAppUser(12L, insertedAppUser.getBirthDate(), "545656777")));
+
+        database.count();
+        Collection<AppUser> result = database.upsertAll(List.of(updatedAppUser, appUserWithoutPhoneNumber, insertedAppUser));
+
+        assertEquals(List.of(10L, 11L, 12L), result.stream().map(AppUser::getId).collect(Collectors.toList()));
+        assertEquals(updatedAppUser, result.iterator().next());
+        assertEquals(List.of(10L), lastNameIndex.search("nowak", null, 10));
+        assertEquals(List.of(), lastNameIndex.search("kowalski", null, 10));
+        assertTrue(phoneNumberIndex.contains("545656777"));
+        assertEquals(7L, database.count());
+        verify(appUserRepository).flush();
+        verify(appUserRepository, times(1)).count();
+    }
+
+    @Test
+    void shouldUpsertAllMethodApplyLastOfAppUsersSharingPhoneNumber() throws DatabaseOperationException {
+        AppUser appUser1 = AppUser.builder().withFirstName("Jan").withLastName("Kowalski").withBirthDate("1990-01-01").withPhoneNumber("555666777").build();
+        AppUser appUser2 = AppUser.builder().withFirstName("Jan").withLastName("Nowak").withBirthDate("1990-01-01").withPhoneNumber("555666777").build();
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser2 = sqlModelMapper.toSqlAppUser(appUser2);
+        when(appUserRepository.updateByPhoneNumber(List.of())).thenReturn(new int[0]);
+        when(appUserRepository.saveAll(List.of(sqlAppUser2))).thenReturn(List.of(sqlAppUser(3L, "1990-01-01", "555666777")));
+
+        Collection<AppUser> result = database.upsertAll(List.of(appUser1, appUser2));
+
+        assertEquals(List.of(3L), result.stream().map(AppUser::getId).collect(Collectors.toList()));
+        assertEquals("Nowak", result.iterator().next().getLastName());
+        assertEquals(List.of(3L), lastNameIndex.search("nowak", null, 10));
+        assertEquals(List.of(), lastNameIndex.search("kowalski", null, 10));
+    }
+
+    @Test
+    void shouldUpsertAllMethodInsertAppUserWhosePhoneNumberMatchedNoRow() throws DatabaseOperationException {
+        AppUser appUser = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
+        phoneNumberIndex.add(10L, "555666777");
+        when(appUserRepository.updateByPhoneNumber(List.of(sqlAppUser))).thenReturn(new int[] {0});
+        when(appUserRepository.saveAll(List.of(sqlAppUser))).thenReturn(List.of(sqlAppUser(11L, appUser.getBirthDate(), "555666777")));
+
+        Collection<AppUser> result = database.upsertAll(List.of(appUser));
+
+        assertEquals(List.of(11L), result.stream().map(AppUser::getId).collect(Collectors.toList()));
+        assertEquals(OptionalLong.of(11L), phoneNumberIndex.findId("555666777"));
+    }
+
+    @Test
+    void shouldUpsertAllMethodThrowExceptionWhenAppUserCollectionIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.upsertAll(null));
+        assertEquals("List of app users cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldUpsertAllMethodThrowExceptionWhenNonTransientDataAccessExceptionOccurDuringUpdatingAppUsers() {
+        AppUser appUser = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        phoneNumberIndex.add(10L, "555666777");
+        doThrow(new NonTransientDataAccessException("") {
+        }).when(appUserRepository).updateByPhoneNumber(List.of(sqlModelMapper.toSqlAppUser(appUser)));
+
+        assertThrows(DatabaseOperationException.class, () -> database.upsertAll(List.of(appUser)));
+        verify(appUserRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldSaveChunkTogetherWithImportCheckpoint() throws DatabaseOperationException {
+        AppUser appUser = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
+        final ImportCheckpoint importCheckpoint = ImportCheckpoint.builder().withFileHash("hash").withLineNumber(41L).build();
+        when(appUserRepository.saveAll(List.of(sqlAppUser))).thenReturn(List.of(sqlAppUser(1L, appUser.getBirthDate(), "555666777")));
+
+        Collection<AppUser> result = database.saveChunk(List.of(appUser), ImportMode.INSERT, "hash", 41L);
+
+        assertEquals(List.of(1L), result.stream().map(AppUser::getId).collect(Collectors.toList()));
+        assertTrue(phoneNumberIndex.contains("555666777"));
+        verify(importCheckpointRepository).saveAndFlush(importCheckpoint);
+        verify(appUserRepository, never()).updateByPhoneNumber(anyList());
+    }
+
+    @Test
+    void shouldSaveChunkUpsertingAppUsersInUpsertMode() throws DatabaseOperationException {
+        AppUser appUser = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
+        phoneNumberIndex.add(10L, "555666777");
+        when(appUserRepository.updateByPhoneNumber(List.of(sqlAppUser))).thenReturn(new int[] {1});
+        when(appUserRepository.saveAll(List.of())).thenReturn(List.of());
+
+        Collection<AppUser> result = database.saveChunk(List.of(appUser), ImportMode.UPSERT, "hash", 2L);
+
+        assertEquals(List.of(10L), result.stream().map(AppUser::getId).collect(Collectors.toList()));
+        verify(importCheckpointRepository).saveAndFlush(ImportCheckpoint.builder().withFileHash("hash").withLineNumber(2L).build());
+    }
+
+    @Test
+    void shouldUpdateIndexesAfterChunkIsCommitted() throws DatabaseOperationException {
+        AppUser appUser = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
+        when(appUserRepository.saveAll(List.of(sqlAppUser))).thenReturn(List.of(sqlAppUser(1L, appUser.getBirthDate(), "555666777")));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            database.saveChunk(List.of(appUser), ImportMode.INSERT, "hash", 2L);
+
+            assertFalse(phoneNumberIndex.contains("555666777"));
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(phoneNumberIndex.contains("555666777"));
+        assertEquals(1, lastNameIndex.count(""));
+        verify(appUserRepository).flush();
+    }
+
+    @Test
+    void shouldLeaveIndexesUntouchedWhenChunkIsRolledBack() throws DatabaseOperationException {
+        AppUser appUser = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
+        when(appUserRepository.saveAll(List.of(sqlAppUser))).thenReturn(List.of(sqlAppUser(1L, appUser.getBirthDate(), "555666777")));
+        appUserCounter.reconcile(() -> 5);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            database.saveChunk(List.of(appUser), ImportMode.UPSERT, "hash", 2L);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(phoneNumberIndex.contains("555666777"));
+        assertEquals(0, lastNameIndex.count(""));
+        assertEquals(OptionalLong.of(5), appUserCounter.get());
+    }
+
+    @Test
+    void shouldSaveChunkMethodThrowExceptionWhenFlushingAppUsersViolatesUniqueConstraint() {
+        AppUser appUser = AppUserGenerator.generateAppUserWithPhoneNumber("555666777");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
+        when(appUserRepository.saveAll(List.of(sqlAppUser))).thenReturn(List.of(sqlAppUser(1L, appUser.getBirthDate(), "555666777")));
+        doThrow(new DataIntegrityViolationException("")).when(appUserRepository).flush();
+
+        assertThrows(DatabaseOperationException.class, () -> database.saveChunk(List.of(appUser), ImportMode.INSERT, "hash", 2L));
+        assertFalse(phoneNumberIndex.contains("555666777"));
+    }
+
+    @Test
+    void shouldSaveChunkMethodThrowExceptionWhenFileHashIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.saveChunk(List.of(), ImportMode.INSERT, null, 2L));
+        assertEquals("File hash cannot be null and line number must be greater than zero", exception.getMessage());
+        verifyNoInteractions(importCheckpointRepository);
+    }
+
+    @Test
+    void shouldSaveChunkMethodThrowExceptionWhenNonTransientDataAccessExceptionOccurDuringSavingImportCheckpoint() {
+        AppUser appUser = AppUserGenerator.generateAppUser();
+        doThrow(new NonTransientDataAccessException("") {
+        }).when(importCheckpointRepository).saveAndFlush(any());
+
+        assertThrows(DatabaseOperationException.class, () -> database.saveChunk(List.of(appUser), ImportMode.INSERT, "hash", 2L));
+        verify(appUserRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldReturnImportCheckpointLineNumber() throws DatabaseOperationException {
+        when(importCheckpointRepository.findById("hash")).thenReturn(Optional.of(ImportCheckpoint.builder().withFileHash("hash").withLineNumber(41L).build()));
+
+        assertEquals(OptionalLong.of(41L), database.getImportCheckpoint("hash"));
+    }
+
+    @Test
+    void shouldReturnEmptyImportCheckpointWhenFileWasNotImported() throws DatabaseOperationException {
+        when(importCheckpointRepository.findById("hash")).thenReturn(Optional.empty());
+
+        assertEquals(OptionalLong.empty(), database.getImportCheckpoint("hash"));
+    }
+
+    @Test
+    void shouldDeleteImportCheckpoint() throws DatabaseOperationException {
+        when(importCheckpointRepository.existsById("hash")).thenReturn(true);
+
+        database.deleteImportCheckpoint("hash");
+
+        verify(importCheckpointRepository).deleteById("hash");
+    }
+
     @Test
     void shouldReturnAppUserById() throws DatabaseOperationException {
         AppUser appUser = AppUserGenerator.generateAppUserWithId(1L);
         com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
-        when(appUserRepository.findById(1L)).thenReturn(Optional.of(sqlAppUser));
+        when(appUserRepository.findAppUserViewById(1L)).thenReturn(Optional.of(appUserView(sqlAppUser)));
 
         Optional<AppUser> result = database.getById(1L);
         assertEquals(appUser, result.get());
-        verify(appUserRepository).findById(1L);
+        verify(appUserRepository).findAppUserViewById(1L);
+    }
+
+    @Test
+    void shouldReturnCachedAppUserByIdWithoutQueryingDatabaseAgain() throws DatabaseOperationException {
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlAppUser(1L, "1990-01-01");
+        when(appUserRepository.findAppUserViewById(1L)).thenReturn(Optional.of(appUserView(sqlAppUser)));
+
+        Optional<AppUser> result1 = database.getById(1L);
+        Optional<AppUser> result2 = database.getById(1L);
+
+        assertEquals(Optional.of(sqlModelMapper.toAppUser(sqlAppUser)), result1);
+        assertEquals(result1, result2);
+        assertEquals(CacheStatistics.builder().withHits(1).withMisses(1).withSize(1).build(), database.getCacheStatistics());
+        verify(appUserRepository, times(1)).findAppUserViewById(1L);
+    }
+
+    @Test
+    void shouldQueryDatabaseAgainAfterCachedAppUserWasDeleted() throws DatabaseOperationException {
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlAppUser(1L, "1990-01-01");
+        when(appUserRepository.findAppUserViewById(1L)).thenReturn(Optional.of(appUserView(sqlAppUser)), Optional.empty());
+        when(appUserRepository.deleteAppUserById(1L)).thenReturn(1);
+
+        database.getById(1L);
+        database.delete(1L);
+        Optional<AppUser> result = database.getById(1L);
+
+        assertEquals(Optional.empty(), result);
+        verify(appUserRepository, times(2)).findAppUserViewById(1L);
+    }
+
+    @Test
+    void shouldQueryDatabaseAgainAfterAllAppUsersWereDeleted() throws DatabaseOperationException {
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlAppUser(1L, "1990-01-01");
+        when(appUserRepository.findAppUserViewById(1L)).thenReturn(Optional.of(appUserView(sqlAppUser)), Optional.empty());
+
+        database.getById(1L);
+        database.deleteAll();
+        Optional<AppUser> result = database.getById(1L);
+
+        assertEquals(Optional.empty(), result);
+        verify(appUserRepository, times(2)).findAppUserViewById(1L);
     }
 
     @Test
@@ -119,74 +442,144 @@ class AppUserDatabaseTest {
     @Test
     void shouldGetByIdMethodThrowExceptionWhenNonTransientDataAccessExceptionOccurDuringGettingById() {
         doThrow(new NonTransientDataAccessException("") {
-        }).when(appUserRepository).findById(1L);
+        }).when(appUserRepository).findAppUserViewById(1L);
 
         assertThrows(DatabaseOperationException.class, () -> database.getById(1L));
-        verify(appUserRepository).findById(1L);
+        verify(appUserRepository).findAppUserViewById(1L);
     }
 
     @Test
     void shouldReturnAppUserByLastName() throws DatabaseOperationException {
-        AppUser appUser = AppUserGenerator.generateAppUser();
-        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
-        String searchName = appUser.getLastName().substring(0, 2);
-        System.out.println(appUser);
-        when(appUserRepository.findAllByLastNameIgnoreCaseContaining(searchName)).thenReturn(List.of(sqlAppUser));
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlAppUser(1L, "1990-01-01");
+        lastNameIndex.add(1L, sqlAppUser.getLastName());
+        lastNameIndex.add(2L, "Nowak");
+        String searchName = sqlAppUser.getLastName().substring(0, 2).toLowerCase();
+        when(appUserRepository.findAppUserViewsByIdIn(List.of(1L))).thenReturn(List.of(appUserView(sqlAppUser)));
+
+        Collection<AppUser> result = database.getByLastName(searchName, 10);
+        assertEquals(List.of(sqlModelMapper.toAppUser(sqlAppUser)), result);
+        verify(appUserRepository).findAppUserViewsByIdIn(List.of(1L));
+    }
+
+    @Test
+    void shouldReturnLimitedAppUsersByLastNameInOrderOfIds() throws DatabaseOperationException {
+        lastNameIndex.add(3L, "Kowalczyk");
+        lastNameIndex.add(2L, "Kowalski");
+        lastNameIndex.add(1L, "Nowakowski");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser1 = sqlAppUser(1L, "1990-01-01");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser2 = sqlAppUser(2L, "1991-01-01");
+        when(appUserRepository.findAppUserViewsByIdIn(List.of(1L, 2L))).thenReturn(List.of(appUserView(sqlAppUser2), appUserView(sqlAppUser1)));
+
+        Collection<AppUser> result = database.getByLastName("KOW", 2);
+        assertEquals(List.of(sqlModelMapper.toAppUser(sqlAppUser1), sqlModelMapper.toAppUser(sqlAppUser2)), result);
+        verify(appUserRepository).findAppUserViewsByIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldReturnEmptyCollectionWithoutQueryingDatabaseWhenNoLastNameMatches() throws DatabaseOperationException {
+        lastNameIndex.add(1L, "Nowak");
 
-        Collection<AppUser> result = database.getByLastName(searchName);
-        assertEquals(List.of(appUser), result);
-        verify(appUserRepository).findAllByLastNameIgnoreCaseContaining(searchName);
+        Collection<AppUser> result = database.getByLastName("kow", 10);
+        assertEquals(List.of(), result);
+        verify(appUserRepository, never()).findAppUserViewsByIdIn(anyList());
+    }
+
+    @Test
+    void shouldReturnSliceOfAppUsersByLastNameWithContinuationToken() throws DatabaseOperationException {
+        lastNameIndex.add(1L, "Kowalski");
+        lastNameIndex.add(2L, "Kowalczyk");
+        lastNameIndex.add(3L, "Nowakowski");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlAppUser(2L, "1990-01-01");
+        when(appUserRepository.findAppUserViewsByIdIn(List.of(2L))).thenReturn(List.of(appUserView(sqlAppUser)));
+
+        AppUserSlice result = database.getByLastNameAfter("kow", ContinuationToken.of(1L), 1, false);
+
+        assertEquals(List.of(sqlModelMapper.toAppUser(sqlAppUser)), result.getContent());
+        assertEquals(Optional.of(ContinuationToken.of(2L)), ContinuationToken.decode(result.getNextToken()));
+        assertNull(result.getTotalCount());
+    }
+
+    @Test
+    void shouldReturnLastSliceOfAppUsersByLastNameWithTotalCount() throws DatabaseOperationException {
+        lastNameIndex.add(1L, "Kowalski");
+        lastNameIndex.add(2L, "Kowalczyk");
+        lastNameIndex.add(3L, "Nowak");
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlAppUser(2L, "1990-01-01");
+        when(appUserRepository.findAppUserViewsByIdIn(List.of(2L))).thenReturn(List.of(appUserView(sqlAppUser)));
+
+        AppUserSlice result = database.getByLastNameAfter("kow", ContinuationToken.of(1L), 5, true);
+
+        assertEquals(List.of(sqlModelMapper.toAppUser(sqlAppUser)), result.getContent());
+        assertNull(result.getNextToken());
+        assertEquals(2L, result.getTotalCount());
+    }
+
+    @Test
+    void shouldGetByLastNameMethodThrowExceptionWhenLimitIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.getByLastName("kow", 0));
+        assertEquals("Limit must be greater than zero", exception.getMessage());
     }
 
     @Test
     void shouldGetByLastNameMethodThrowExceptionWhenLastNameIsNull() {
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.getByLastName(null));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.getByLastName(null, 10));
         assertEquals("Last name cannot be null.", exception.getMessage());
     }
 
     @Test
     void shouldGetByLastNameMethodThrowExceptionWhenNonTransientDataAccessExceptionOccurDuringGettingByLastName() {
         String lastName = "Example";
+        lastNameIndex.add(1L, lastName);
         doThrow(new NonTransientDataAccessException("") {
-        }).when(appUserRepository).findAllByLastNameIgnoreCaseContaining(lastName);
+        }).when(appUserRepository).findAppUserViewsByIdIn(List.of(1L));
 
-        assertThrows(DatabaseOperationException.class, () -> database.getByLastName(lastName));
-        verify(appUserRepository).findAllByLastNameIgnoreCaseContaining(lastName);
+        assertThrows(DatabaseOperationException.class, () -> database.getByLastName(lastName, 10));
+        verify(appUserRepository).findAppUserViewsByIdIn(List.of(1L));
     }
 
     @Test
     void shouldReturnFirstPageOfAppUsers() throws DatabaseOperationException {
         List<AppUser> appUsers = List.of(AppUserGenerator.generateAppUser());
-        PageImpl pagedAppUsers = new PageImpl(appUsers);
         List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlAppUsers = appUsers.stream().map(appUser -> sqlModelMapper.toSqlAppUser(appUser)).collect(Collectors.toList());
-        PageImpl<com.radek.databasewithcsv.database.sql.model.AppUser> pagedSqlAppUsers = new PageImpl<>(sqlAppUsers);
-        when(appUserRepository.findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")))).thenReturn(pagedSqlAppUsers);
+        when(appUserRepository.findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")))).thenReturn(appUserViews(sqlAppUsers));
+        when(appUserRepository.count()).thenReturn(1L);
 
         Page<AppUser> result = database.getAppUsers();
-        assertEquals(pagedAppUsers, result);
-        verify(appUserRepository).findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")));
+        assertEquals(new PageImpl<>(appUsers, PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")), 1L), result);
+        verify(appUserRepository).findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")));
     }
 
     @Test
     void shouldGetFirstPageOfAppUsersMethodThrowExceptionWhenNonTransientDataAccessExceptionOccurWhileGettingAppUsers() {
         doThrow(new NonTransientDataAccessException("") {
-        }).when(appUserRepository).findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")));
+        }).when(appUserRepository).findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")));
 
         assertThrows(DatabaseOperationException.class, () -> database.getAppUsers());
-        verify(appUserRepository).findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")));
+        verify(appUserRepository).findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")));
     }
 
     @Test
     void shouldReturnPageOfAppUsers() throws DatabaseOperationException {
         List<AppUser> appUsers = List.of(AppUserGenerator.generateAppUser());
-        PageImpl pagedAppUsers = new PageImpl(appUsers);
         List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlAppUsers = appUsers.stream().map(appUser -> sqlModelMapper.toSqlAppUser(appUser)).collect(Collectors.toList());
-        PageImpl<com.radek.databasewithcsv.database.sql.model.AppUser> pagedSqlAppUsers = new PageImpl<>(sqlAppUsers);
-        when(appUserRepository.findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")))).thenReturn(pagedSqlAppUsers);
+        when(appUserRepository.findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")))).thenReturn(appUserViews(sqlAppUsers));
+        when(appUserRepository.count()).thenReturn(1L);
+
+        Page<AppUser> result = database.getAppUsers(0);
+        assertEquals(new PageImpl<>(appUsers, PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")), 1L), result);
+        verify(appUserRepository).findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")));
+    }
 
+    @Test
+    void shouldServePageTotalsFromCounterWithoutCountingAgain() throws DatabaseOperationException {
+        when(appUserRepository.findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")))).thenReturn(List.of());
+        when(appUserRepository.count()).thenReturn(12L);
+
+        database.getAppUsers(0);
         Page<AppUser> result = database.getAppUsers(0);
-        assertEquals(pagedAppUsers, result);
-        verify(appUserRepository).findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")));
+
+        assertEquals(12L, result.getTotalElements());
+        verify(appUserRepository, times(1)).count();
     }
 
     @Test
@@ -198,41 +591,129 @@ class AppUserDatabaseTest {
     @Test
     void shouldGetAppUsersMethodThrowExceptionWhenNonTransientDataAccessExceptionOccurWhileGettingAppUsers() {
         doThrow(new NonTransientDataAccessException("") {
-        }).when(appUserRepository).findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")));
+        }).when(appUserRepository).findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")));
 
         assertThrows(DatabaseOperationException.class, () -> database.getAppUsers(0));
-        verify(appUserRepository).findAll(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate")));
+        verify(appUserRepository).findPage(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "birthDate", "id")));
+    }
+
+    @Test
+    void shouldReturnPageOfAppUsersWithRequestedPageSizeAndSorting() throws DatabaseOperationException {
+        List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlAppUsers = List.of(sqlAppUser(1L, "1994-01-01"), sqlAppUser(2L, "1995-01-01"));
+        when(appUserRepository.findPage(PageRequest.of(1, 20, Sort.by(Direction.ASC, "lastName", "id")))).thenReturn(appUserViews(sqlAppUsers));
+        when(appUserRepository.count()).thenReturn(22L);
+
+        Page<AppUser> result = database.getAppUsers(1, 20, AppUserSortField.LAST_NAME, Direction.ASC);
+
+        assertEquals(sqlAppUsers.stream().map(sqlModelMapper::toAppUser).collect(Collectors.toList()), result.getContent());
+        assertEquals(22L, result.getTotalElements());
+        verify(appUserRepository).findPage(PageRequest.of(1, 20, Sort.by(Direction.ASC, "lastName", "id")));
+    }
+
+    @Test
+    void shouldReturnPageOfAppUsersSortedOnlyByIdWhenSortingById() throws DatabaseOperationException {
+        when(appUserRepository.findPage(PageRequest.of(0, 10, Sort.by(Direction.DESC, "id")))).thenReturn(List.of());
+
+        Page<AppUser> result = database.getAppUsers(0, 10, AppUserSortField.ID, Direction.DESC);
+
+        assertEquals(0, result.getNumberOfElements());
+        verify(appUserRepository).findPage(PageRequest.of(0, 10, Sort.by(Direction.DESC, "id")));
+    }
+
+    @Test
+    void shouldGetAppUsersMethodThrowExceptionWhenPageSizeIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.getAppUsers(0, 0, AppUserSortField.ID, Direction.DESC));
+        assertEquals("Page size must be greater than zero", exception.getMessage());
+    }
+
+    @Test
+    void shouldGetAppUsersMethodThrowExceptionWhenSortFieldIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.getAppUsers(0, 5, null, Direction.DESC));
+        assertEquals("Sort field and direction cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldReturnFirstSliceOfAppUsersWithContinuationTokenWhenMoreAppUsersExist() throws DatabaseOperationException {
+        List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlAppUsers = List.of(
+            sqlAppUser(6L, "1999-01-01"), sqlAppUser(5L, "1998-01-01"), sqlAppUser(4L, "1997-01-01"),
+            sqlAppUser(3L, "1996-01-01"), sqlAppUser(2L, "1995-01-01"), sqlAppUser(1L, "1994-01-01"));
+        when(appUserRepository.findFirstSeekPage(PageRequest.of(0, 6))).thenReturn(appUserViews(sqlAppUsers));
+
+        AppUserSlice result = database.getAppUsersAfter(null, false);
+
+        assertEquals(sqlAppUsers.subList(0, 5).stream().map(sqlModelMapper::toAppUser).collect(Collectors.toList()), result.getContent());
+        assertEquals(Optional.of(ContinuationToken.of(LocalDate.of(1995, 1, 1), 2L)), ContinuationToken.decode(result.getNextToken()));
+        assertNull(result.getTotalCount());
+        verify(appUserRepository, never()).count();
+    }
+
+    @Test
+    void shouldReturnLastSliceOfAppUsersAfterContinuationTokenWithTotalCount() throws DatabaseOperationException {
+        ContinuationToken token = ContinuationToken.of(LocalDate.of(1995, 1, 1), 2L);
+        List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlAppUsers = List.of(sqlAppUser(1L, "1994-01-01"));
+        when(appUserRepository.findSeekPageAfter(LocalDate.of(1995, 1, 1), 2L, PageRequest.of(0, 6))).thenReturn(appUserViews(sqlAppUsers));
+        when(appUserRepository.count()).thenReturn(6L);
+
+        AppUserSlice result = database.getAppUsersAfter(token, true);
+
+        assertEquals(List.of(sqlModelMapper.toAppUser(sqlAppUsers.get(0))), result.getContent());
+        assertNull(result.getNextToken());
+        assertEquals(6L, result.getTotalCount());
+    }
+
+    @Test
+    void shouldGetAppUsersAfterMethodThrowExceptionWhenNonTransientDataAccessExceptionOccurWhileGettingAppUsers() {
+        doThrow(new NonTransientDataAccessException("") {
+        }).when(appUserRepository).findFirstSeekPage(PageRequest.of(0, 6));
+
+        assertThrows(DatabaseOperationException.class, () -> database.getAppUsersAfter(null, false));
+        verify(appUserRepository).findFirstSeekPage(PageRequest.of(0, 6));
     }
 
     @Test
     void shouldReturnOldestAppUserWithPhoneNumber() throws DatabaseOperationException {
         AppUser appUser = AppUserGenerator.generateAppUser();
         com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
-        when(appUserRepository.findAll(Sort.by(Direction.ASC, "birthDate"))).thenReturn(List.of(Optional.of(sqlAppUser).get()));
+        when(appUserRepository.findOldestWithPhoneNumber(PageRequest.of(0, 1))).thenReturn(List.of(appUserView(sqlAppUser)));
 
         Optional<AppUser> result = database.getOldestAppUserWithPhoneNumber();
         assertEquals(appUser, result.get());
-        verify(appUserRepository).findAll(Sort.by(Direction.ASC, "birthDate"));
+        verify(appUserRepository).findOldestWithPhoneNumber(PageRequest.of(0, 1));
+    }
+
+    @Test
+    void shouldReturnEmptyOptionalWhenNoAppUserHasPhoneNumber() throws DatabaseOperationException {
+        when(appUserRepository.findOldestWithPhoneNumber(PageRequest.of(0, 1))).thenReturn(List.of());
+
+        Optional<AppUser> result = database.getOldestAppUserWithPhoneNumber();
+        assertEquals(Optional.empty(), result);
+        verify(appUserRepository).findOldestWithPhoneNumber(PageRequest.of(0, 1));
     }
 
     @Test
     void shouldReturnOldestAppUserWithPhoneNumberThrowExceptionWhenNonTransientDataAccessExceptionOccurDuringItsExecution() {
         doThrow(new NonTransientDataAccessException("") {
-        }).when(appUserRepository).findAll(Sort.by(Direction.ASC, "birthDate"));
+        }).when(appUserRepository).findOldestWithPhoneNumber(PageRequest.of(0, 1));
 
         assertThrows(DatabaseOperationException.class, () -> database.getOldestAppUserWithPhoneNumber());
-        verify(appUserRepository).findAll(Sort.by(Direction.ASC, "birthDate"));
+        verify(appUserRepository).findOldestWithPhoneNumber(PageRequest.of(0, 1));
     }
 
     @Test
     void shouldDeleteAppUser() throws DatabaseOperationException {
-        when(appUserRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(appUserRepository).deleteById(1L);
+        when(appUserRepository.deleteAppUserById(1L)).thenReturn(1);
 
-        database.delete(1L);
+        lastNameIndex.add(1L, "Kowalski");
+        phoneNumberIndex.add(1L, "555666777");
+
+        boolean result = database.delete(1L);
 
-        verify(appUserRepository).existsById(1L);
-        verify(appUserRepository).deleteById(1L);
+        assertTrue(result);
+        assertEquals(List.of(), lastNameIndex.search("Kowalski", null, 10));
+        assertFalse(phoneNumberIndex.contains("555666777"));
+        verify(appUserRepository).deleteAppUserById(1L);
+        verify(appUserRepository, never()).existsById(1L);
+        verify(appUserRepository, never()).deleteById(1L);
     }
 
     @Test
@@ -242,53 +723,193 @@ class AppUserDatabaseTest {
     }
 
     @Test
-    void shouldDeleteMethodThrowExceptionWhenAttemptToDeleteNonExistingAppUser() {
+    void shouldDeleteMethodReturnFalseWhenAttemptToDeleteNonExistingAppUser() throws DatabaseOperationException {
         long id = 12345L;
-        when(appUserRepository.existsById(id)).thenReturn(false);
+        when(appUserRepository.deleteAppUserById(id)).thenReturn(0);
+        lastNameIndex.add(1L, "Kowalski");
 
-        assertThrows(DatabaseOperationException.class, () -> database.delete(id));
-        verify(appUserRepository).existsById(id);
-        verify(appUserRepository, never()).deleteById(id);
+        boolean result = database.delete(id);
+
+        assertFalse(result);
+        assertEquals(List.of(1L), lastNameIndex.search("Kowalski", null, 10));
+        verify(appUserRepository).deleteAppUserById(id);
     }
 
     @Test
     void shouldDeleteMethodThrowDatabaseOperationExceptionWhenNonTransientDataAccessExceptionOccurDuringDeletingAppUser() {
-        when(appUserRepository.existsById(1L)).thenReturn(true);
         doThrow(new NonTransientDataAccessException("") {
-        }).when(appUserRepository).deleteById(1L);
+        }).when(appUserRepository).deleteAppUserById(1L);
 
         assertThrows(DatabaseOperationException.class, () -> database.delete(1L));
-        verify(appUserRepository).existsById(1L);
-        verify(appUserRepository).deleteById(1L);
-    }
-
-    @Test
-    void shouldDeleteMethodThrowDatabaseOperationExceptionWhenNoSuchElementExceptionOccurDuringDeletingAppUser() {
-        when(appUserRepository.existsById(1L)).thenReturn(true);
-        doThrow(new NoSuchElementException()).when(appUserRepository).deleteById(1L);
-
-        assertThrows(DatabaseOperationException.class, () -> database.delete(1L));
-        verify(appUserRepository).existsById(1L);
-        verify(appUserRepository).deleteById(1L);
+        verify(appUserRepository).deleteAppUserById(1L);
     }
 
     @Test
     void shouldDeleteAllAppUsers() throws DatabaseOperationException {
-        doNothing().when(appUserRepository).deleteAll();
+        doNothing().when(appUserRepository).deleteAllInBatch();
+        lastNameIndex.add(1L, "Kowalski");
+        phoneNumberIndex.add(1L, "555666777");
 
         database.deleteAll();
 
-        verify(appUserRepository).deleteAll();
+        assertEquals(List.of(), lastNameIndex.search("Kowalski", null, 10));
+        assertEquals(0, phoneNumberIndex.size());
+        verify(appUserRepository).deleteAllInBatch();
     }
 
     @Test
     void shouldDeleteAllMethodThrowDatabaseOperationExceptionWhenNonTransientDataAccessExceptionOccurDuringDeletingAllAppUsers() {
         doThrow(new NonTransientDataAccessException("") {
-        }).when(appUserRepository).deleteAll();
+        }).when(appUserRepository).deleteAllInBatch();
 
         //then
         assertThrows(DatabaseOperationException.class, () -> database.deleteAll());
-        verify(appUserRepository).deleteAll();
+        verify(appUserRepository).deleteAllInBatch();
+    }
+
+    @Test
+    void shouldDeleteAppUsersByIdsInBatchesAndReportMissingIds() throws DatabaseOperationException {
+        List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().collect(Collectors.toList());
+        List<Long> existingIdsOfSecondBatch = LongStream.rangeClosed(1001, 1499).boxed().collect(Collectors.toList());
+        when(appUserRepository.findExistingIds(ids.subList(0, 1000))).thenReturn(ids.subList(0, 1000));
+        when(appUserRepository.findExistingIds(ids.subList(1000, 1500))).thenReturn(existingIdsOfSecondBatch);
+        when(appUserRepository.deleteAppUsersByIdIn(ids.subList(0, 1000))).thenReturn(1000);
+        when(appUserRepository.deleteAppUsersByIdIn(existingIdsOfSecondBatch)).thenReturn(499);
+        lastNameIndex.add(1L, "Kowalski");
+        lastNameIndex.add(1499L, "Nowak");
+        lastNameIndex.add(1501L, "Nowakowski");
+
+        DeletionSummary result = database.deleteByIds(ids);
+
+        assertEquals(DeletionSummary.builder().withDeletedCount(1499).withMissingIds(List.of(1500L)).build(), result);
+        assertEquals(List.of(1501L), lastNameIndex.search("", null, 10));
+        verify(appUserRepository).deleteAppUsersByIdIn(ids.subList(0, 1000));
+        verify(appUserRepository).deleteAppUsersByIdIn(existingIdsOfSecondBatch);
+        verify(appUserRepository, never()).existsById(any());
+    }
+
+    @Test
+    void shouldUpdateIndexesAfterDeletionByIdsIsCommitted() throws DatabaseOperationException {
+        when(appUserRepository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(appUserRepository.deleteAppUsersByIdIn(List.of(1L))).thenReturn(1);
+        lastNameIndex.add(1L, "Kowalski");
+        appUserCounter.reconcile(() -> 5);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            DeletionSummary result = database.deleteByIds(List.of(1L, 2L));
+
+            assertEquals(DeletionSummary.builder().withDeletedCount(1).withMissingIds(List.of(2L)).build(), result);
+            assertEquals(List.of(1L), lastNameIndex.search("", null, 10));
+            assertEquals(OptionalLong.of(5), appUserCounter.get());
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(), lastNameIndex.search("", null, 10));
+        assertEquals(OptionalLong.of(4), appUserCounter.get());
+    }
+
+    @Test
+    void shouldNotDeleteAnythingWhenAllIdsAreMissing() throws DatabaseOperationException {
+        when(appUserRepository.findExistingIds(List.of(7L, 8L))).thenReturn(List.of());
+
+        DeletionSummary result = database.deleteByIds(List.of(7L, 8L, 7L));
+
+        assertEquals(DeletionSummary.builder().withMissingIds(List.of(7L, 8L)).build(), result);
+        verify(appUserRepository, never()).deleteAppUsersByIdIn(anyList());
+    }
+
+    @Test
+    void shouldDeleteByIdsMethodThrowExceptionWhenIdsContainNull() {
+        List<Long> ids = new ArrayList<>();
+        ids.add(null);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.deleteByIds(ids));
+        assertEquals("Ids cannot be null.", exception.getMessage());
+    }
+
+    @Test
+    void shouldDeleteByIdsMethodThrowDatabaseOperationExceptionWhenNonTransientDataAccessExceptionOccur() {
+        doThrow(new NonTransientDataAccessException("") {
+        }).when(appUserRepository).findExistingIds(List.of(1L));
+
+        assertThrows(DatabaseOperationException.class, () -> database.deleteByIds(List.of(1L)));
+    }
+
+    @Test
+    void shouldDeleteAppUsersByIdRangeInBatches() throws DatabaseOperationException {
+        List<Long> firstBatch = LongStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        when(appUserRepository.findIdsBetween(1L, 5000L, PageRequest.of(0, 1000))).thenReturn(firstBatch);
+        when(appUserRepository.findIdsBetween(1001L, 5000L, PageRequest.of(0, 1000))).thenReturn(List.of(4000L));
+        when(appUserRepository.deleteAppUsersByIdIn(firstBatch)).thenReturn(1000);
+        when(appUserRepository.deleteAppUsersByIdIn(List.of(4000L))).thenReturn(1);
+        phoneNumberIndex.add(4000L, "555666777");
+
+        long result = database.deleteByIdRange(1L, 5000L);
+
+        assertEquals(1001L, result);
+        assertFalse(phoneNumberIndex.contains("555666777"));
+        verify(appUserRepository, times(2)).deleteAppUsersByIdIn(anyList());
+    }
+
+    @Test
+    void shouldDeleteByIdRangeMethodNotDeleteAnythingWhenNoAppUserIsInRange() throws DatabaseOperationException {
+        when(appUserRepository.findIdsBetween(1L, 5L, PageRequest.of(0, 1000))).thenReturn(List.of());
+
+        assertEquals(0L, database.deleteByIdRange(1L, 5L));
+        verify(appUserRepository, never()).deleteAppUsersByIdIn(anyList());
+    }
+
+    @Test
+    void shouldDeleteByIdRangeMethodThrowExceptionWhenRangeIsReversed() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> database.deleteByIdRange(5L, 1L));
+        assertEquals("Start of id range cannot be greater than its end.", exception.getMessage());
+    }
+
+    @Test
+    void shouldPassEveryStreamedAppUserToHandlerAndCloseStream() throws DatabaseOperationException {
+        AtomicBoolean closed = new AtomicBoolean();
+        AppUserFilter filter = AppUserFilter.builder()
+            .withLastName("kow_al%")
+            .withBornFrom(LocalDate.parse("1980-01-01"))
+            .withBornTo(LocalDate.parse("1990-12-31"))
+            .build();
+        when(appUserRepository.streamAppUsers("%KOW\\_AL\\%%", LocalDate.parse("1980-01-01"), LocalDate.parse("1990-12-31")))
+            .thenReturn(Stream.of(appUserView(1L, "1985-01-01"), appUserView(2L, "1986-01-01")).onClose(() -> closed.set(true)));
+        List<AppUser> handledAppUsers = new ArrayList<>();
+
+        long result = database.forEachAppUser(filter, handledAppUsers::add);
+
+        assertEquals(2L, result);
+        assertEquals(List.of(1L, 2L), handledAppUsers.stream().map(AppUser::getId).collect(Collectors.toList()));
+        assertEquals("1986-01-01", handledAppUsers.get(1).getBirthDate());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void shouldForEachAppUserMethodPassNullFiltersToRepository() throws DatabaseOperationException {
+        when(appUserRepository.streamAppUsers(null, null, null)).thenReturn(Stream.empty());
+
+        assertEquals(0L, database.forEachAppUser(AppUserFilter.builder().build(), appUser -> {
+        }));
+    }
+
+    @Test
+    void shouldForEachAppUserMethodThrowDatabaseOperationExceptionWhenNonTransientDataAccessExceptionOccurDuringStreaming() {
+        doThrow(new NonTransientDataAccessException("") {
+        }).when(appUserRepository).streamAppUsers(null, null, null);
+
+        assertThrows(DatabaseOperationException.class, () -> database.forEachAppUser(AppUserFilter.builder().build(), appUser -> {
+        }));
+    }
+
+    @Test
+    void shouldForEachAppUserMethodThrowExceptionForNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> database.forEachAppUser(null, appUser -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> database.forEachAppUser(AppUserFilter.builder().build(), null));
+        verifyNoInteractions(appUserRepository);
     }
 
     @Test
@@ -309,4 +930,94 @@ class AppUserDatabaseTest {
         assertThrows(DatabaseOperationException.class, () -> database.count());
         verify(appUserRepository).count();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldMaintainNumberOfAppUsersOnSaveAndDelete() throws DatabaseOperationException {
+        AppUser appUser = AppUserGenerator.generateAppUser();
+        List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlAppUsers = List.of(sqlModelMapper.toSqlAppUser(appUser));
+        when(appUserRepository.count()).thenReturn(10L);
+        when(appUserRepository.saveAll(sqlAppUsers)).thenReturn(sqlAppUsers);
+        when(appUserRepository.deleteAppUserById(1L)).thenReturn(1);
+
+        database.count();
+        database.saveAll(List.of(appUser));
+        assertEquals(11L, database.count());
+        database.delete(1L);
+        assertEquals(10L, database.count());
+        database.deleteAll();
+        assertEquals(0L, database.count());
+
+        verify(appUserRepository, times(1)).count();
+    }
+
+    private com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser(Long id, String birthDate) {
+        return sqlAppUser(id, birthDate, AppUserGenerator.generateAppUserWithSpecificIdAndBirthDate(id, birthDate).getPhoneNumber());
+    }
+
+    private com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser(Long id, String birthDate, String phoneNumber) {
+        AppUser appUser = AppUserGenerator.generateAppUserWithSpecificIdAndBirthDate(id, birthDate);
+        return com.radek.databasewithcsv.database.sql.model.AppUser.builder()
+            .withId(id)
+            .withFirstName(appUser.getFirstName())
+            .withLastName(appUser.getLastName())
+            .withBirthDate(LocalDate.parse(birthDate))
+            .withPhoneNumber(phoneNumber)
+            .build();
+    }
+
+    private IndexedAppUserView indexedAppUserView(Long id, String lastName, String phoneNumber) {
+        return new IndexedAppUserView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getLastName() {
+                return lastName;
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return phoneNumber;
+            }
+        };
+    }
+
+    private AppUserView appUserView(Long id, String birthDate) {
+        return appUserView(sqlAppUser(id, birthDate));
+    }
+
+    private AppUserView appUserView(com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser) {
+        return new AppUserView() {
+            @Override
+            public Long getId() {
+                return sqlAppUser.getId();
+            }
+
+            @Override
+            public String getFirstName() {
+                return sqlAppUser.getFirstName();
+            }
+
+            @Override
+            public String getLastName() {
+                return sqlAppUser.getLastName();
+            }
+
+            @Override
+            public LocalDate getBirthDate() {
+                return sqlAppUser.getBirthDate();
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return sqlAppUser.getPhoneNumber();
+            }
+        };
+    }
+
+    private List<AppUserView> appUserViews(List<com.radek.databasewithcsv.database.sql.model.AppUser> sqlAppUsers) {
+        return sqlAppUsers.stream().map(this::appUserView).collect(Collectors.toList());
+    }
+}
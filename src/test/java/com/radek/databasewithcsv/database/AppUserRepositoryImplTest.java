@@ -0,0 +1,70 @@
+package com.radek.databasewithcsv.database;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.radek.databasewithcsv.database.sql.model.AppUser;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AppUserRepositoryImplTest {
+
+    @Mock
+    EntityManager entityManager;
+    @Mock
+    Session session;
+    @Mock
+    Connection connection;
+    @Mock
+    PreparedStatement statement;
+
+    @Test
+    void shouldUpdateAppUsersByPhoneNumberInJdbcBatchesOfConfiguredSize() throws Exception {
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.doReturningWork(any())).thenAnswer(invocation -> invocation.<ReturningWork<int[]>>getArgument(0).execute(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[] {1, 0}, new int[] {1, 1}, new int[] {0});
+        List<AppUser> appUsers = IntStream.range(0, 5)
+            .mapToObj(i -> AppUser.builder().withFirstName("Jan").withLastName("Kowalski").withBirthDate(LocalDate.of(1990, 1, 1)).withPhoneNumber(String.valueOf(500000000 + i)).build())
+            .collect(Collectors.toList());
+
+        int[] updateCounts = new AppUserRepositoryImpl(entityManager, 2).updateByPhoneNumber(appUsers);
+
+        assertArrayEquals(new int[] {1, 0, 1, 1, 0}, updateCounts);
+        verify(statement, times(5)).addBatch();
+        verify(statement, times(3)).executeBatch();
+    }
+
+    @Test
+    void shouldNotTouchDatabaseWhenThereIsNothingToUpdate() {
+        assertArrayEquals(new int[0], new AppUserRepositoryImpl(entityManager, 2).updateByPhoneNumber(List.of()));
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBatchSizeIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new AppUserRepositoryImpl(entityManager, 0));
+        assertEquals("Batch size must be greater than zero", exception.getMessage());
+    }
+}
@@ -0,0 +1,102 @@
+package com.radek.databasewithcsv.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LastNameIndexTest {
+
+    LastNameIndex lastNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        lastNameIndex = new LastNameIndex();
+        lastNameIndex.add(4L, "Kowalski");
+        lastNameIndex.add(1L, "Nowakowska");
+        lastNameIndex.add(3L, "Kowalczyk");
+        lastNameIndex.add(2L, "Nowak");
+    }
+
+    @Test
+    void shouldFindIdsOfLastNamesContainingFragmentIgnoringCaseInOrderOfIds() {
+        assertEquals(List.of(1L, 3L, 4L), lastNameIndex.search("kOw", null, 10));
+        assertEquals(List.of(3L, 4L), lastNameIndex.search("KOWAL", null, 10));
+        assertEquals(List.of(1L, 2L), lastNameIndex.search("nowak", null, 10));
+    }
+
+    @Test
+    void shouldFindIdsOfLastNamesContainingFragmentShorterThanTrigram() {
+        assertEquals(List.of(1L, 4L), lastNameIndex.search("sk", null, 10));
+        assertEquals(List.of(1L, 2L, 3L, 4L), lastNameIndex.search("", null, 10));
+    }
+
+    @Test
+    void shouldFindIdsOfLastNamesContainingSingleLetterInOrderOfIds() {
+        lastNameIndex.add(5L, "Zielinski");
+
+        assertEquals(List.of(3L, 5L), lastNameIndex.search("z", null, 10));
+        assertEquals(List.of(5L), lastNameIndex.search("Z", 3L, 10));
+        assertEquals(List.of(), lastNameIndex.search("q", null, 10));
+    }
+
+    @Test
+    void shouldCountLastNamesContainingFragment() {
+        assertEquals(4, lastNameIndex.count(""));
+        assertEquals(4, lastNameIndex.count("a"));
+        assertEquals(2, lastNameIndex.count("sk"));
+        assertEquals(3, lastNameIndex.count("KOW"));
+        assertEquals(2, lastNameIndex.count("kowal"));
+        assertEquals(0, lastNameIndex.count("xy"));
+    }
+
+    @Test
+    void shouldNotCountRemovedLastNamesOrLettersRepeatedInOneLastName() {
+        lastNameIndex.add(5L, "Kaczmarczak");
+        lastNameIndex.remove(2L);
+
+        assertEquals(4, lastNameIndex.count("a"));
+        assertEquals(2, lastNameIndex.count("cz"));
+        assertEquals(List.of(1L, 3L, 4L, 5L), lastNameIndex.search("a", null, 10));
+    }
+
+    @Test
+    void shouldVerifyCandidatesAgainstWholeFragment() {
+        lastNameIndex.add(5L, "Kowxowal");
+
+        assertEquals(List.of(3L, 4L), lastNameIndex.search("kowal", null, 10));
+    }
+
+    @Test
+    void shouldLimitResultsAndContinueAfterProvidedId() {
+        assertEquals(List.of(1L, 3L), lastNameIndex.search("kow", null, 2));
+        assertEquals(List.of(4L), lastNameIndex.search("kow", 3L, 2));
+        assertEquals(List.of(2L, 3L), lastNameIndex.search("a", 1L, 2));
+    }
+
+    @Test
+    void shouldNotFindRemovedOrReplacedLastNames() {
+        lastNameIndex.remove(4L);
+        lastNameIndex.add(3L, "Zielinski");
+
+        assertEquals(List.of(1L), lastNameIndex.search("kow", null, 10));
+        assertEquals(List.of(3L), lastNameIndex.search("zieli", null, 10));
+    }
+
+    @Test
+    void shouldNotFindAnythingAfterClear() {
+        lastNameIndex.clear();
+
+        assertEquals(List.of(), lastNameIndex.search("kow", null, 10));
+        assertEquals(List.of(), lastNameIndex.search("", null, 10));
+    }
+
+    @Test
+    void shouldSearchMethodThrowExceptionWhenLimitIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> lastNameIndex.search("kow", null, 0));
+        assertEquals("Limit must be greater than zero", exception.getMessage());
+    }
+}
@@ -0,0 +1,110 @@
+package com.radek.databasewithcsv.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+class PhoneNumberIndexTest {
+
+    PhoneNumberIndex phoneNumberIndex = new PhoneNumberIndex();
+
+    @Test
+    void shouldContainAddedPhoneNumbers() {
+        phoneNumberIndex.add(1L, "555666777");
+        phoneNumberIndex.add(2L, "+48 555666778");
+
+        assertTrue(phoneNumberIndex.contains("555666777"));
+        assertTrue(phoneNumberIndex.contains("+48 555666778"));
+        assertFalse(phoneNumberIndex.contains("555666778"));
+        assertEquals(2, phoneNumberIndex.size());
+    }
+
+    @Test
+    void shouldFindIdOfAppUserHavingPhoneNumber() {
+        phoneNumberIndex.add(1L, "555666777");
+        phoneNumberIndex.add(2L, "+48 555666778");
+
+        assertEquals(OptionalLong.of(1L), phoneNumberIndex.findId("555666777"));
+        assertEquals(OptionalLong.of(2L), phoneNumberIndex.findId("+48 555666778"));
+        assertEquals(OptionalLong.empty(), phoneNumberIndex.findId("555666778"));
+        assertEquals(OptionalLong.empty(), phoneNumberIndex.findId(""));
+    }
+
+    @Test
+    void shouldDistinguishPhoneNumbersWithLeadingZeros() {
+        phoneNumberIndex.add(1L, "0555666777");
+
+        assertTrue(phoneNumberIndex.contains("0555666777"));
+        assertFalse(phoneNumberIndex.contains("555666777"));
+    }
+
+    @Test
+    void shouldIgnoreEmptyPhoneNumbers() {
+        phoneNumberIndex.add(1L, "");
+        phoneNumberIndex.add(2L, null);
+
+        assertFalse(phoneNumberIndex.contains(""));
+        assertFalse(phoneNumberIndex.contains(null));
+        assertEquals(0, phoneNumberIndex.size());
+    }
+
+    @Test
+    void shouldRemovePhoneNumberOfAppUser() {
+        phoneNumberIndex.add(1L, "555666777");
+        phoneNumberIndex.add(2L, "+48 555666778");
+
+        phoneNumberIndex.remove(1L);
+        phoneNumberIndex.remove(2L);
+        phoneNumberIndex.remove(3L);
+
+        assertFalse(phoneNumberIndex.contains("555666777"));
+        assertFalse(phoneNumberIndex.contains("+48 555666778"));
+        assertEquals(0, phoneNumberIndex.size());
+    }
+
+    @Test
+    void shouldReplacePhoneNumberOfAppUserAddedAgain() {
+        phoneNumberIndex.add(1L, "555666777");
+
+        phoneNumberIndex.add(1L, "555666778");
+
+        assertFalse(phoneNumberIndex.contains("555666777"));
+        assertTrue(phoneNumberIndex.contains("555666778"));
+    }
+
+    @Test
+    void shouldKeepPhoneNumbersAfterManyAdditionsAndRemovals() {
+        for (long id = 0; id < 100000; id++) {
+            phoneNumberIndex.add(id, String.valueOf(400000000L + id));
+        }
+        for (long id = 0; id < 100000; id += 2) {
+            phoneNumberIndex.remove(id);
+        }
+
+        assertEquals(50000, phoneNumberIndex.size());
+        for (long id = 0; id < 100000; id++) {
+            assertEquals(id % 2 == 1, phoneNumberIndex.contains(String.valueOf(400000000L + id)));
+        }
+    }
+
+    @Test
+    void shouldClearIndex() {
+        phoneNumberIndex.add(1L, "555666777");
+
+        phoneNumberIndex.clear();
+
+        assertFalse(phoneNumberIndex.contains("555666777"));
+        assertEquals(0, phoneNumberIndex.size());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIdIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> phoneNumberIndex.add(null, "555666777"));
+        assertEquals("Id cannot be null", exception.getMessage());
+    }
+}
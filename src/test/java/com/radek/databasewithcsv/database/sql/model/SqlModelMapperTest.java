@@ -1,6 +1,7 @@
 package com.radek.databasewithcsv.database.sql.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.radek.databasewithcsv.model.AppUser;
 
@@ -8,6 +9,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -64,6 +66,21 @@ class SqlModelMapperTest {
         assertEquals(sqlAppUser.getPhoneNumber(), appUser.getPhoneNumber());
     }
 
+    @Test
+    void shouldMapEmptyPhoneNumberToNullAndBackToEmpty() {
+        AppUser appUser = AppUser.builder()
+            .withFirstName("Jan")
+            .withLastName("Nowak")
+            .withBirthDate("1990-12-02")
+            .withPhoneNumber("")
+            .build();
+
+        com.radek.databasewithcsv.database.sql.model.AppUser sqlAppUser = sqlModelMapper.toSqlAppUser(appUser);
+
+        assertNull(sqlAppUser.getPhoneNumber());
+        assertEquals("", sqlModelMapper.toAppUser(sqlAppUser).getPhoneNumber());
+    }
+
     private static Stream<Arguments> sqlappUserBuilderParameters() {
         return Stream.of(
             Arguments.of(1L, "Ewa", "Kowalska", LocalDate.of(1968, 10, 23), "567123741"),
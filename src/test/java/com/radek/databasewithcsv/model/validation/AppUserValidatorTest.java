@@ -98,4 +98,27 @@ class AppUserValidatorTest {
             Arguments.of("971-136-311", List.of("Incorrect format of phone number"))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnValidationErrorsAsBitmask() {
+        AppUser appUser = AppUser.builder().withFirstName("").withLastName("Nowak1").withBirthDate("1971-13-31").withPhoneNumber("345678912").build();
+
+        int validationErrors = AppUserValidator.validationErrors(appUser);
+
+        assertEquals(AppUserValidator.FIRST_NAME_MISSING | AppUserValidator.LAST_NAME_INVALID | AppUserValidator.BIRTH_DATE_INVALID | AppUserValidator.PHONE_NUMBER_INVALID, validationErrors);
+        assertEquals(List.of("First name cannot be null", "Last name should contain only letters", "Incorrect format of birth date", "Incorrect format of phone number"), AppUserValidator.describe(validationErrors));
+    }
+
+    @Test
+    void shouldReturnNoValidationErrorsForCorrectAppUser() {
+        AppUser appUser = AppUser.builder().withFirstName("Żaneta").withLastName("Gżegżółka").withBirthDate("1978-12-31").withPhoneNumber("").build();
+
+        assertEquals(0, AppUserValidator.validationErrors(appUser));
+        assertEquals(List.of(), AppUserValidator.describe(0));
+    }
+
+    @Test
+    void shouldReturnAppUserMissingErrorForNullAppUser() {
+        assertEquals(AppUserValidator.APP_USER_MISSING, AppUserValidator.validationErrors(null));
+    }
+}
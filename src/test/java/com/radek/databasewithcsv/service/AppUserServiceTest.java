@@ -4,29 +4,68 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.radek.databasewithcsv.config.ImportProperties;
+import com.radek.databasewithcsv.config.PagingProperties;
+import com.radek.databasewithcsv.csvhelper.AppUserWriter;
+import com.radek.databasewithcsv.csvhelper.CompressionType;
+import com.radek.databasewithcsv.csvhelper.CsvParserType;
+import com.radek.databasewithcsv.csvhelper.CustomCsvWriter;
+import com.radek.databasewithcsv.csvhelper.ExportFormat;
+import com.radek.databasewithcsv.csvhelper.FileDigest;
+import com.radek.databasewithcsv.csvhelper.ImportProgress;
+import com.radek.databasewithcsv.csvhelper.RejectedRowReport;
+import com.radek.databasewithcsv.database.AppUserHandler;
 import com.radek.databasewithcsv.database.Database;
 import com.radek.databasewithcsv.database.DatabaseOperationException;
 import com.radek.databasewithcsv.generators.AppUserGenerator;
 import com.radek.databasewithcsv.model.AppUser;
-
+import com.radek.databasewithcsv.model.AppUserFilter;
+import com.radek.databasewithcsv.model.AppUserSlice;
+import com.radek.databasewithcsv.model.AppUserSortField;
+import com.radek.databasewithcsv.model.CacheStatistics;
+import com.radek.databasewithcsv.model.ContinuationToken;
+import com.radek.databasewithcsv.model.DeletionSummary;
+import com.radek.databasewithcsv.model.ImportMode;
+import com.radek.databasewithcsv.model.ImportSummary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort.Direction;
 
 @ExtendWith(MockitoExtension.class)
 class AppUserServiceTest {
@@ -34,6 +73,12 @@ class AppUserServiceTest {
     @Mock
     private Database database;
 
+    @Mock
+    private ImportProperties importProperties;
+
+    @Mock
+    private PagingProperties pagingProperties;
+
     @InjectMocks
     private AppUserService appUserService;
 
@@ -65,6 +110,7 @@ class AppUserServiceTest {
 
         assertEquals(savedAppUsers, result);
         verify(database).saveAll(appUsersToSave);
+        verify(database, never()).existsByPhoneNumber(anyString());
     }
 
     @Test
@@ -74,6 +120,29 @@ class AppUserServiceTest {
         verify(database, never()).saveAll(anyCollection());
     }
 
+    @Test
+    void shouldAddAppUsersFromStreamInChunks() throws Exception {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + ";Kowalski;1987.08.07;\n"
+            + "Jolanta;Magia;2000.2.04;666000111\n"
+            + "Jan;Nowak;1990.01.01;600700801\n";
+        when(importProperties.getParser()).thenReturn(CsvParserType.FAST);
+        when(importProperties.getChunkSize()).thenReturn(2);
+        List<String> savedFirstNames = new ArrayList<>();
+        when(database.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<AppUser> appUsers = invocation.getArgument(0);
+            appUsers.forEach(appUser -> savedFirstNames.add(appUser.getFirstName()));
+            return appUsers;
+        });
+
+        ImportSummary result = appUserService.addAppUsers(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), CompressionType.NONE, new ImportProgress());
+
+        assertEquals(ImportSummary.builder().withRowsParsed(4).withRowsRejected(1).withRowsSaved(3).build(), result);
+        assertEquals(List.of("Stefan", "Jolanta", "Jan"), savedFirstNames);
+        verify(database, times(2)).saveAll(anyCollection());
+    }
+
     @Test
     void addAppUsersMethodShouldThrowExceptionWhenErrorOccurDuringAddingAppUsersToDatabase() throws DatabaseOperationException {
         List<AppUser> appUsers = List.of(AppUserGenerator.generateAppUser(), AppUserGenerator.generateAppUser());
@@ -83,6 +152,236 @@ class AppUserServiceTest {
         verify(database).saveAll(appUsers);
     }
 
+    @Test
+    void shouldImportAppUsersInChunks() throws Exception {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + ";Kowalski;1987.08.07;\n"
+            + "Maria;Ziółko;1999.1.1;\n"
+            + "Jolanta;Magia;2000.2.04;666000111\n";
+        InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        when(importProperties.getChunkSize()).thenReturn(2);
+        List<Collection<AppUser>> savedChunks = new ArrayList<>();
+        when(database.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<AppUser> chunk = new ArrayList<>(invocation.getArgument(0));
+            savedChunks.add(chunk);
+            return chunk;
+        });
+
+        ImportSummary result = appUserService.importAppUsers(inputStream);
+
+        assertEquals(ImportSummary.builder().withRowsParsed(4).withRowsRejected(1).withRowsSaved(3).build(), result);
+        assertEquals(2, savedChunks.size());
+        assertEquals(2, savedChunks.get(0).size());
+        assertEquals(1, savedChunks.get(1).size());
+        verify(database, times(2)).saveAll(anyCollection());
+    }
+
+    @Test
+    void shouldImportAppUsersThroughPipelineWhenPipelineIsEnabled() throws Exception {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + ";Kowalski;1987.08.07;\n"
+            + "Jolanta;Magia;2000.2.04;666000111\n";
+        InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        when(importProperties.isPipelineEnabled()).thenReturn(true);
+        when(importProperties.getChunkSize()).thenReturn(10);
+        when(importProperties.getValidatorThreads()).thenReturn(2);
+        when(importProperties.getPipelineQueueCapacity()).thenReturn(4);
+        when(database.saveAll(anyCollection())).thenAnswer(invocation -> invocation.getArgument(0));
+        ImportProgress progress = new ImportProgress();
+
+        ImportSummary result = appUserService.importAppUsers(inputStream, progress);
+
+        assertEquals(ImportSummary.builder().withRowsParsed(3).withRowsRejected(1).withRowsSaved(2).build(), result);
+        assertEquals(3, progress.getStageStatistics().size());
+        verify(database).saveAll(anyCollection());
+    }
+
+    @Test
+    void shouldWriteInvalidAndDuplicatedRowsToRejectedRowReport() throws Exception {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + ";Kowalski;1987.08.07;\n"
+            + "Jolanta;Magia;2000.2.04;600700800\n";
+        InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        when(importProperties.getChunkSize()).thenReturn(10);
+        when(database.saveAll(anyCollection())).thenAnswer(invocation -> List.of(invocation.<List<AppUser>>getArgument(0).get(0)));
+        StringWriter reportContent = new StringWriter();
+
+        ImportSummary result = appUserService.importAppUsers(inputStream, new ImportProgress(), new RejectedRowReport(reportContent));
+
+        assertEquals(ImportSummary.builder().withRowsParsed(3).withRowsRejected(1).withRowsSaved(1).build(), result);
+        assertEquals("line_number;reason;raw_line\n"
+            + "3;\"First name cannot be null\";\";Kowalski;1987.08.07;\"\n"
+            + "4;\"Phone number is not unique\";\"Jolanta;Magia;2000.2.04;600700800\"\n", reportContent.toString());
+    }
+
+    @Test
+    void shouldImportAppUsersByUpsertingWhenUpsertModeIsSelected() throws Exception {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + "Jolanta;Magia;2000.2.04;600700800\n";
+        InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        when(importProperties.getChunkSize()).thenReturn(10);
+        when(importProperties.getMode()).thenReturn(ImportMode.UPSERT);
+        when(database.upsertAll(anyCollection())).thenAnswer(invocation -> invocation.getArgument(0));
+        StringWriter reportContent = new StringWriter();
+
+        ImportSummary result = appUserService.importAppUsers(inputStream, new ImportProgress(), new RejectedRowReport(reportContent));
+
+        assertEquals(ImportSummary.builder().withRowsParsed(2).withRowsRejected(0).withRowsSaved(2).build(), result);
+        assertEquals("line_number;reason;raw_line\n", reportContent.toString());
+        verify(database).upsertAll(anyCollection());
+        verify(database, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    void shouldUpsertAppUsers() throws DatabaseOperationException, ServiceOperationException {
+        List<AppUser> appUsers = List.of(AppUserGenerator.generateAppUser());
+        when(database.upsertAll(appUsers)).thenReturn(appUsers);
+
+        assertEquals(appUsers, appUserService.upsertAppUsers(appUsers));
+        verify(database).upsertAll(appUsers);
+    }
+
+    @Test
+    void upsertAppUsersMethodShouldThrowExceptionWhenErrorOccurDuringUpsertingAppUsers() throws DatabaseOperationException {
+        List<AppUser> appUsers = List.of(AppUserGenerator.generateAppUser());
+        doThrow(DatabaseOperationException.class).when(database).upsertAll(appUsers);
+
+        assertThrows(ServiceOperationException.class, () -> appUserService.upsertAppUsers(appUsers));
+        verify(database).upsertAll(appUsers);
+    }
+
+    @Test
+    void importAppUsersMethodShouldThrowExceptionWhenNullInputStreamIsPassed() throws DatabaseOperationException {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.importAppUsers(null));
+        assertEquals("Input stream cannot be null", exception.getMessage());
+        verify(database, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    void shouldImportAppUsersFromGzipCompressedStream() throws Exception {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + ";Kowalski;1987.08.07;\n";
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedContent)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        when(importProperties.getParser()).thenReturn(CsvParserType.FAST);
+        when(importProperties.getChunkSize()).thenReturn(10);
+        when(database.saveAll(anyCollection())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImportSummary result = appUserService.importAppUsers(new ByteArrayInputStream(compressedContent.toByteArray()), CompressionType.GZIP);
+
+        assertEquals(ImportSummary.builder().withRowsParsed(2).withRowsRejected(1).withRowsSaved(1).build(), result);
+    }
+
+    @Test
+    void importAppUsersMethodShouldThrowExceptionWhenNullCompressionTypeIsPassed() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.importAppUsers(new ByteArrayInputStream(new byte[0]), (CompressionType) null));
+        assertEquals("Compression type cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldResolveServerFileFromServerFilesDirectory(@TempDir Path directory) throws Exception {
+        Path file = Files.writeString(directory.resolve("users.csv"), "first_name;last_name;birth_date;phone_no\n");
+        when(importProperties.getServerFilesDirectory()).thenReturn(directory.toString());
+
+        Optional<Path> result = appUserService.resolveServerFile("users.csv");
+
+        assertEquals(Optional.of(file.toRealPath()), result);
+    }
+
+    @Test
+    void resolveServerFileMethodShouldReturnEmptyOptionalWhenFileIsOutsideOfServerFilesDirectory(@TempDir Path directory) throws Exception {
+        Path serverFilesDirectory = Files.createDirectory(directory.resolve("imports"));
+        Files.writeString(directory.resolve("users.csv"), "first_name;last_name;birth_date;phone_no\n");
+        when(importProperties.getServerFilesDirectory()).thenReturn(serverFilesDirectory.toString());
+
+        assertTrue(appUserService.resolveServerFile("../users.csv").isEmpty());
+        assertTrue(appUserService.resolveServerFile(directory.resolve("users.csv").toString()).isEmpty());
+        assertTrue(appUserService.resolveServerFile("missing.csv").isEmpty());
+    }
+
+    @Test
+    void resolveServerFileMethodShouldReturnEmptyOptionalWhenServerFilesDirectoryIsNotConfigured() {
+        when(importProperties.getServerFilesDirectory()).thenReturn(null);
+
+        assertTrue(appUserService.resolveServerFile("users.csv").isEmpty());
+    }
+
+    @Test
+    void resolveServerFileMethodShouldThrowExceptionWhenNullFileNameIsPassed() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.resolveServerFile(null));
+        assertEquals("File name cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldImportServerFileInParallelSegments(@TempDir Path directory) throws Exception {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + ";Kowalski;1987.08.07;\n"
+            + "Jolanta;Magia;2000.2.04;666000111\n";
+        Path file = Files.writeString(directory.resolve("users.csv"), content);
+        when(importProperties.getMappedSegments()).thenReturn(2);
+        when(importProperties.getChunkSize()).thenReturn(10);
+        when(importProperties.getValidatorThreads()).thenReturn(2);
+        when(importProperties.getPipelineQueueCapacity()).thenReturn(4);
+        when(database.saveAll(anyCollection())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImportSummary result = appUserService.importServerFile(file);
+
+        assertEquals(ImportSummary.builder().withRowsParsed(3).withRowsRejected(1).withRowsSaved(2).build(), result);
+        verify(database).saveAll(anyCollection());
+    }
+
+    @Test
+    void shouldResumeServerFileImportAfterCheckpointAndDeleteCheckpointWhenFinished(@TempDir Path directory) throws Exception {
+        String content = "first_name;last_name;birth_date;phone_no\n"
+            + "Stefan;Testowy;1988.11.11;600700800\n"
+            + "Jan;Kowalski;1987.08.07;600700801\n"
+            + ";Kowalski;1987.08.07;\n"
+            + "Jolanta;Magia;2000.2.04;666000111\n";
+        Path file = Files.writeString(directory.resolve("users.csv"), content);
+        String fileHash = FileDigest.fingerprint(file);
+        when(importProperties.isCheckpointsEnabled()).thenReturn(true);
+        when(importProperties.getChunkSize()).thenReturn(1);
+        when(importProperties.getMode()).thenReturn(ImportMode.INSERT);
+        when(database.getImportCheckpoint(fileHash)).thenReturn(OptionalLong.of(2L));
+        when(database.saveChunk(anyCollection(), eq(ImportMode.INSERT), eq(fileHash), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImportSummary result = appUserService.importServerFile(file);
+
+        assertEquals(ImportSummary.builder().withRowsParsed(3).withRowsRejected(1).withRowsSaved(2).build(), result);
+        verify(database).saveChunk(List.of(AppUser.builder().withFirstName("Jan").withLastName("Kowalski").withBirthDate("1987-08-07").withPhoneNumber("600700801").build()),
+            ImportMode.INSERT, fileHash, 3L);
+        verify(database).saveChunk(anyCollection(), eq(ImportMode.INSERT), eq(fileHash), eq(5L));
+        verify(database).deleteImportCheckpoint(fileHash);
+        verify(database, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    void importServerFileMethodShouldKeepCheckpointWhenSavingChunkFails(@TempDir Path directory) throws Exception {
+        final Path file = Files.writeString(directory.resolve("users.csv"), "first_name;last_name;birth_date;phone_no\nStefan;Testowy;1988.11.11;600700800\n");
+        when(importProperties.isCheckpointsEnabled()).thenReturn(true);
+        when(importProperties.getChunkSize()).thenReturn(1);
+        when(database.getImportCheckpoint(anyString())).thenReturn(OptionalLong.empty());
+        when(database.saveChunk(anyCollection(), any(), anyString(), anyLong())).thenThrow(new DatabaseOperationException("", new RuntimeException()));
+
+        assertThrows(ServiceOperationException.class, () -> appUserService.importServerFile(file));
+        verify(database, never()).deleteImportCheckpoint(anyString());
+    }
+
+    @Test
+    void importServerFileMethodShouldThrowExceptionWhenNullFileIsPassed() throws DatabaseOperationException {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.importServerFile(null));
+        assertEquals("File cannot be null", exception.getMessage());
+        verify(database, never()).saveAll(anyCollection());
+    }
+
     @Test
     void shouldGetFirstPageOfAppUsers() throws DatabaseOperationException, ServiceOperationException {
         AppUser appUser1 = AppUserGenerator.generateAppUserWithSpecificIdAndBirthDate(1L, "1990-01-01");
@@ -165,6 +464,67 @@ class AppUserServiceTest {
         verify(database).getAppUsers(1);
     }
 
+    @Test
+    void shouldGetPageOfAppUsersWithDefaultPageSizeAndSorting() throws DatabaseOperationException, ServiceOperationException {
+        Page<AppUser> page = new PageImpl<>(List.of(AppUserGenerator.generateAppUser()));
+        when(pagingProperties.getDefaultPageSize()).thenReturn(5);
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        when(database.getAppUsers(0, 5, AppUserSortField.BIRTH_DATE, Direction.DESC)).thenReturn(page);
+
+        Page<AppUser> result = appUserService.getAppUsers(0, null, null, null);
+
+        assertEquals(page, result);
+        verify(database).getAppUsers(0, 5, AppUserSortField.BIRTH_DATE, Direction.DESC);
+    }
+
+    @Test
+    void shouldGetPageOfAppUsersWithPageSizeBoundedByMaxPageSize() throws DatabaseOperationException, ServiceOperationException {
+        Page<AppUser> page = new PageImpl<>(List.of(AppUserGenerator.generateAppUser()));
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        when(database.getAppUsers(1, 100, AppUserSortField.LAST_NAME, Direction.ASC)).thenReturn(page);
+
+        Page<AppUser> result = appUserService.getAppUsers(1, 1000, AppUserSortField.LAST_NAME, Direction.ASC);
+
+        assertEquals(page, result);
+        verify(database).getAppUsers(1, 100, AppUserSortField.LAST_NAME, Direction.ASC);
+    }
+
+    @Test
+    void getAppUsersWithPageSizeMethodShouldThrowExceptionWhenPageSizeIsNotPositive() throws DatabaseOperationException {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.getAppUsers(1, 0, null, null));
+        assertEquals("Page size must be greater than zero", exception.getMessage());
+        verify(database, never()).getAppUsers(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void getAppUsersWithPageSizeMethodShouldThrowExceptionWhenErrorOccurDuringGettingAppUsers() throws DatabaseOperationException {
+        when(pagingProperties.getDefaultPageSize()).thenReturn(5);
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        doThrow(DatabaseOperationException.class).when(database).getAppUsers(1, 5, AppUserSortField.BIRTH_DATE, Direction.DESC);
+
+        assertThrows(ServiceOperationException.class, () -> appUserService.getAppUsers(1, null, null, null));
+        verify(database).getAppUsers(1, 5, AppUserSortField.BIRTH_DATE, Direction.DESC);
+    }
+
+    @Test
+    void shouldGetSliceOfAppUsersAfterContinuationToken() throws DatabaseOperationException, ServiceOperationException {
+        ContinuationToken token = ContinuationToken.of(LocalDate.of(1990, 1, 1), 1L);
+        AppUserSlice slice = AppUserSlice.builder().withContent(List.of(AppUserGenerator.generateAppUser())).withTotalCount(2L).build();
+        when(database.getAppUsersAfter(token, true)).thenReturn(slice);
+
+        AppUserSlice result = appUserService.getAppUsersAfter(token, true);
+
+        assertEquals(slice, result);
+        verify(database).getAppUsersAfter(token, true);
+    }
+
+    @Test
+    void getAppUsersAfterMethodShouldThrowExceptionWhenErrorOccurDuringGettingSliceOfAppUsers() throws DatabaseOperationException {
+        doThrow(DatabaseOperationException.class).when(database).getAppUsersAfter(null, false);
+        assertThrows(ServiceOperationException.class, () -> appUserService.getAppUsersAfter(null, false));
+        verify(database).getAppUsersAfter(null, false);
+    }
+
     @Test
     void shouldGetAppUserById() throws DatabaseOperationException, ServiceOperationException {
         AppUser appUser = AppUserGenerator.generateAppUserWithId(1L);
@@ -201,7 +561,8 @@ class AppUserServiceTest {
         String lastName = "kow";
 
         when(database.saveAll(appUsers)).thenReturn(appUsers);
-        when(database.getByLastName(lastName)).thenReturn(filteredAppUsers);
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        when(database.getByLastName(lastName, 100)).thenReturn(filteredAppUsers);
 
         Collection<AppUser> saveResult = appUserService.addAppUsers(appUsers);
         Collection<AppUser> result = appUserService.getAppUsersByLastName(lastName);
@@ -209,22 +570,94 @@ class AppUserServiceTest {
         assertEquals(appUsers, saveResult);
         assertEquals(filteredAppUsers, result);
         verify(database).saveAll(appUsers);
-        verify(database).getByLastName(lastName);
+        verify(database).getByLastName(lastName, 100);
     }
 
     @Test
     void getAppUsersByLastNameMethodShouldThrowExceptionWhenLastNameIsNull() throws DatabaseOperationException {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.getAppUsersByLastName(null));
         assertEquals("Last name cannot be null.", exception.getMessage());
-        verify(database, never()).getByLastName(null);
+        verify(database, never()).getByLastName(any(), anyInt());
     }
 
     @Test
     void getAppUserByLastNameShouldThrowExceptionWhenUnexpectedErrorOccur() throws DatabaseOperationException {
         String lastName = "Kowalski";
-        doThrow(DatabaseOperationException.class).when(database).getByLastName(lastName);
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        doThrow(DatabaseOperationException.class).when(database).getByLastName(lastName, 100);
         assertThrows(ServiceOperationException.class, () -> appUserService.getAppUsersByLastName(lastName));
-        verify(database).getByLastName(lastName);
+        verify(database).getByLastName(lastName, 100);
+    }
+
+    @Test
+    void shouldGetLimitedAppUsersByLastName() throws DatabaseOperationException, ServiceOperationException {
+        List<AppUser> filteredAppUsers = List.of(AppUserGenerator.generateAppUserWithLastName("Kowalski"));
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        when(database.getByLastName("kow", 1)).thenReturn(filteredAppUsers);
+
+        Collection<AppUser> result = appUserService.getAppUsersByLastName("kow", 1);
+
+        assertEquals(filteredAppUsers, result);
+        verify(database).getByLastName("kow", 1);
+    }
+
+    @Test
+    void getAppUsersByLastNameMethodShouldLimitResultsToMaxPageSizeWhenLimitIsNullOrGreater() throws DatabaseOperationException, ServiceOperationException {
+        List<AppUser> filteredAppUsers = List.of(AppUserGenerator.generateAppUserWithLastName("Kowalski"));
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        when(database.getByLastName("kow", 100)).thenReturn(filteredAppUsers);
+
+        Collection<AppUser> result1 = appUserService.getAppUsersByLastName("kow", null);
+        Collection<AppUser> result2 = appUserService.getAppUsersByLastName("kow", 1000);
+
+        assertEquals(filteredAppUsers, result1);
+        assertEquals(filteredAppUsers, result2);
+        verify(database, times(2)).getByLastName("kow", 100);
+    }
+
+    @Test
+    void getAppUsersByLastNameMethodShouldThrowExceptionWhenLimitIsNotPositive() throws DatabaseOperationException {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.getAppUsersByLastName("kow", 0));
+        assertEquals("Limit must be greater than zero", exception.getMessage());
+        verify(database, never()).getByLastName(anyString(), anyInt());
+    }
+
+    @Test
+    void getLimitedAppUsersByLastNameShouldThrowExceptionWhenUnexpectedErrorOccur() throws DatabaseOperationException {
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        doThrow(DatabaseOperationException.class).when(database).getByLastName("kow", 1);
+        assertThrows(ServiceOperationException.class, () -> appUserService.getAppUsersByLastName("kow", 1));
+        verify(database).getByLastName("kow", 1);
+    }
+
+    @Test
+    void shouldGetSliceOfAppUsersByLastNameWithBoundedPageSize() throws DatabaseOperationException, ServiceOperationException {
+        ContinuationToken token = ContinuationToken.of(3L);
+        AppUserSlice slice = AppUserSlice.builder().withContent(List.of(AppUserGenerator.generateAppUserWithLastName("Kowalski"))).withTotalCount(1L).build();
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        when(database.getByLastNameAfter("kow", token, 100, true)).thenReturn(slice);
+
+        AppUserSlice result = appUserService.getAppUsersByLastNameAfter("kow", token, 500, true);
+
+        assertEquals(slice, result);
+        verify(database).getByLastNameAfter("kow", token, 100, true);
+    }
+
+    @Test
+    void getAppUsersByLastNameAfterMethodShouldThrowExceptionWhenPageSizeIsNotPositive() throws DatabaseOperationException {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.getAppUsersByLastNameAfter("kow", null, 0, false));
+        assertEquals("Page size must be greater than zero", exception.getMessage());
+        verify(database, never()).getByLastNameAfter(any(), any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void getAppUsersByLastNameAfterMethodShouldThrowExceptionWhenErrorOccur() throws DatabaseOperationException {
+        when(pagingProperties.getDefaultPageSize()).thenReturn(5);
+        when(pagingProperties.getMaxPageSize()).thenReturn(100);
+        doThrow(DatabaseOperationException.class).when(database).getByLastNameAfter("kow", null, 5, false);
+
+        assertThrows(ServiceOperationException.class, () -> appUserService.getAppUsersByLastNameAfter("kow", null, null, false));
+        verify(database).getByLastNameAfter("kow", null, 5, false);
     }
 
     @Test
@@ -279,8 +712,15 @@ class AppUserServiceTest {
 
     @Test
     void shouldDeleteAppUserById() throws DatabaseOperationException, ServiceOperationException {
-        doNothing().when(database).delete(1L);
-        appUserService.deleteById(1L);
+        when(database.delete(1L)).thenReturn(true);
+        assertTrue(appUserService.deleteById(1L));
+        verify(database).delete(1L);
+    }
+
+    @Test
+    void shouldDeleteByIdMethodReturnFalseWhenAppUserDoesNotExist() throws DatabaseOperationException, ServiceOperationException {
+        when(database.delete(1L)).thenReturn(false);
+        assertFalse(appUserService.deleteById(1L));
         verify(database).delete(1L);
     }
 
@@ -312,6 +752,74 @@ class AppUserServiceTest {
         verify(database).deleteAll();
     }
 
+    @Test
+    void shouldDeleteAppUsersByIds() throws DatabaseOperationException, ServiceOperationException {
+        DeletionSummary summary = DeletionSummary.builder().withDeletedCount(1).withMissingIds(List.of(2L)).build();
+        when(database.deleteByIds(List.of(1L, 2L))).thenReturn(summary);
+        assertEquals(summary, appUserService.deleteByIds(List.of(1L, 2L)));
+        verify(database).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    void deleteByIdsMethodShouldThrowExceptionWhenUnexpectedErrorOccur() throws DatabaseOperationException {
+        doThrow(DatabaseOperationException.class).when(database).deleteByIds(List.of(1L));
+        assertThrows(ServiceOperationException.class, () -> appUserService.deleteByIds(List.of(1L)));
+        verify(database).deleteByIds(List.of(1L));
+    }
+
+    @Test
+    void shouldDeleteAppUsersByIdRange() throws DatabaseOperationException, ServiceOperationException {
+        when(database.deleteByIdRange(1L, 10L)).thenReturn(7L);
+        assertEquals(7L, appUserService.deleteByIdRange(1L, 10L));
+        verify(database).deleteByIdRange(1L, 10L);
+    }
+
+    @Test
+    void deleteByIdRangeMethodShouldThrowExceptionWhenRangeIsNull() throws DatabaseOperationException {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.deleteByIdRange(null, 10L));
+        assertEquals("Id range cannot be null", exception.getMessage());
+        verify(database, never()).deleteByIdRange(null, 10L);
+    }
+
+    @Test
+    void shouldExportAppUsersToWriter() throws Exception {
+        AppUser appUser = AppUserGenerator.generateAppUser();
+        AppUserFilter filter = AppUserFilter.builder().withLastName("Kowalski").build();
+        when(database.forEachAppUser(any(AppUserFilter.class), any())).thenAnswer(invocation -> {
+            invocation.<AppUserHandler<?>>getArgument(1).handle(appUser);
+            return 1L;
+        });
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long result;
+        try (AppUserWriter writer = CustomCsvWriter.openAppUserWriter(outputStream, ExportFormat.CSV)) {
+            result = appUserService.exportAppUsers(filter, writer);
+        }
+
+        assertEquals(1L, result);
+        String expectedContent = "first_name;last_name;birth_date;phone_no\n"
+            + String.join(";", appUser.getFirstName(), appUser.getLastName(), appUser.getBirthDate(), appUser.getPhoneNumber()) + "\n";
+        assertEquals(expectedContent, outputStream.toString(StandardCharsets.UTF_8));
+        verify(database).forEachAppUser(any(AppUserFilter.class), any());
+    }
+
+    @Test
+    void exportAppUsersMethodShouldThrowExceptionWhenUnexpectedErrorOccur() throws Exception {
+        doThrow(DatabaseOperationException.class).when(database).forEachAppUser(any(AppUserFilter.class), any());
+        try (AppUserWriter writer = CustomCsvWriter.openAppUserWriter(new ByteArrayOutputStream(), ExportFormat.NDJSON)) {
+            assertThrows(ServiceOperationException.class, () -> appUserService.exportAppUsers(AppUserFilter.builder().build(), writer));
+        }
+    }
+
+    @Test
+    void exportAppUsersMethodShouldThrowExceptionWhenFilterIsNull() throws Exception {
+        try (AppUserWriter writer = CustomCsvWriter.openAppUserWriter(new ByteArrayOutputStream(), ExportFormat.CSV)) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> appUserService.exportAppUsers(null, writer));
+            assertEquals("Filter and writer cannot be null", exception.getMessage());
+        }
+        verify(database, never()).forEachAppUser(any(), any());
+    }
+
     @Test
     void shouldCountAppUsers() throws DatabaseOperationException, ServiceOperationException {
         when(database.count()).thenReturn(15L);
@@ -359,4 +867,13 @@ class AppUserServiceTest {
         assertThrows(ServiceOperationException.class, () -> appUserService.existsById(1L));
         verify(database).existsById(1L);
     }
+
+    @Test
+    void shouldGetCacheStatistics() {
+        CacheStatistics statistics = CacheStatistics.builder().withHits(3).withMisses(1).withSize(1).build();
+        when(database.getCacheStatistics()).thenReturn(statistics);
+
+        assertEquals(statistics, appUserService.getCacheStatistics());
+        verify(database).getCacheStatistics();
+    }
 }
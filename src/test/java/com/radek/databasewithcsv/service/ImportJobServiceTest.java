@@ -0,0 +1,182 @@
+package com.radek.databasewithcsv.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.radek.databasewithcsv.csvhelper.CompressionType;
+import com.radek.databasewithcsv.csvhelper.CsvCustomParsingException;
+import com.radek.databasewithcsv.csvhelper.ImportProgress;
+import com.radek.databasewithcsv.csvhelper.RejectedRowReport;
+import com.radek.databasewithcsv.model.ImportJob;
+import com.radek.databasewithcsv.model.ImportJobStatus;
+import com.radek.databasewithcsv.model.validation.AppUserValidator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceTest {
+
+    @Mock
+    private AppUserService appUserService;
+
+    private List<Runnable> queuedTasks;
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        queuedTasks = new ArrayList<>();
+        importJobService = new ImportJobService(appUserService, queuedTasks::add, 2);
+    }
+
+    @Test
+    void shouldSubmitQueuedImportJob() throws IOException {
+        Path file = Files.createTempFile("import-job-test", ".csv");
+
+        ImportJob result = importJobService.submit(file);
+
+        assertEquals(ImportJobStatus.QUEUED, result.getStatus());
+        assertEquals(1, queuedTasks.size());
+        assertEquals(Optional.of(result), importJobService.getJob(result.getId()));
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void shouldImportZipArchiveOfImportJobFromFile() throws Exception {
+        Path file = Files.createTempFile("import-job-test", ".zip");
+        when(appUserService.importZipFile(eq(file), any(ImportProgress.class), any(RejectedRowReport.class))).thenReturn(new ImportProgress().toSummary());
+
+        ImportJob submitted = importJobService.submit(file, CompressionType.ZIP, false);
+        queuedTasks.get(0).run();
+
+        assertEquals(ImportJobStatus.COMPLETED, importJobService.getJob(submitted.getId()).get().getStatus());
+        verify(appUserService).importZipFile(eq(file), any(ImportProgress.class), any(RejectedRowReport.class));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void shouldCompleteImportJobAndReportProgress() throws Exception {
+        Path file = Files.createTempFile("import-job-test", ".csv");
+        when(appUserService.importAppUsers(any(InputStream.class), eq(CompressionType.NONE), any(ImportProgress.class), any(RejectedRowReport.class))).thenAnswer(invocation -> {
+            ImportProgress progress = invocation.getArgument(2);
+            progress.rowParsed();
+            progress.rowParsed();
+            progress.rowRejected(AppUserValidator.PHONE_NUMBER_INVALID);
+            progress.rowsSaved(1);
+            return progress.toSummary();
+        });
+
+        ImportJob submitted = importJobService.submit(file);
+        queuedTasks.get(0).run();
+        ImportJob result = importJobService.getJob(submitted.getId()).get();
+
+        assertEquals(ImportJobStatus.COMPLETED, result.getStatus());
+        assertTrue(result.isCompleted());
+        assertEquals(2, result.getRowsParsed());
+        assertEquals(1, result.getRowsRejected());
+        assertEquals(1, result.getRowsSaved());
+        assertFalse(Files.exists(file));
+        verify(appUserService).importAppUsers(any(InputStream.class), eq(CompressionType.NONE), any(ImportProgress.class), any(RejectedRowReport.class));
+    }
+
+    @Test
+    void shouldMarkImportJobAsFailedWhenImportThrowsException() throws Exception {
+        Path file = Files.createTempFile("import-job-test", ".csv");
+        when(appUserService.importAppUsers(any(InputStream.class), eq(CompressionType.NONE), any(ImportProgress.class), any(RejectedRowReport.class))).thenThrow(new CsvCustomParsingException("Parsing failed"));
+
+        ImportJob submitted = importJobService.submit(file);
+        queuedTasks.get(0).run();
+        ImportJob result = importJobService.getJob(submitted.getId()).get();
+
+        assertEquals(ImportJobStatus.FAILED, result.getStatus());
+        assertEquals("Parsing failed", result.getErrorMessage());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void shouldEvictOldestFinishedJobsWhenRetentionLimitIsReached() throws Exception {
+        final ImportJob first = importJobService.submit(Files.createTempFile("import-job-test", ".csv"));
+        final ImportJob second = importJobService.submit(Files.createTempFile("import-job-test", ".csv"));
+        queuedTasks.forEach(Runnable::run);
+
+        ImportJob third = importJobService.submit(Files.createTempFile("import-job-test", ".csv"));
+
+        assertEquals(Optional.empty(), importJobService.getJob(first.getId()));
+        assertTrue(importJobService.getJob(second.getId()).isPresent());
+        assertTrue(importJobService.getJob(third.getId()).isPresent());
+        queuedTasks.get(2).run();
+    }
+
+    @Test
+    void shouldRemoveJobAndFileWhenExecutorRejectsImportJob() throws IOException {
+        importJobService = new ImportJobService(appUserService, task -> {
+            throw new RejectedExecutionException();
+        }, 2);
+        Path file = Files.createTempFile("import-job-test", ".csv");
+
+        assertThrows(RejectedExecutionException.class, () -> importJobService.submit(file));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void shouldWriteRejectedRowsReportOfImportJob() throws Exception {
+        Path file = Files.createTempFile("import-job-test", ".csv");
+        when(appUserService.importAppUsers(any(InputStream.class), eq(CompressionType.NONE), any(ImportProgress.class), any(RejectedRowReport.class))).thenAnswer(invocation -> {
+            RejectedRowReport report = invocation.getArgument(3);
+            report.reject(3, "Incorrect format of phone number", "Jan;Kowalski;1990.01.01;123");
+            return invocation.<ImportProgress>getArgument(2).toSummary();
+        });
+
+        ImportJob submitted = importJobService.submit(file, true);
+        assertEquals(Optional.empty(), importJobService.getRejectedRowsReport(submitted.getId()));
+        queuedTasks.get(0).run();
+        Optional<Path> report = importJobService.getRejectedRowsReport(submitted.getId());
+
+        assertTrue(importJobService.getJob(submitted.getId()).get().isRejectedRowsReport());
+        assertTrue(report.isPresent());
+        assertEquals(List.of("line_number;reason;raw_line", "3;\"Incorrect format of phone number\";\"Jan;Kowalski;1990.01.01;123\""), Files.readAllLines(report.get()));
+        Files.deleteIfExists(report.get());
+    }
+
+    @Test
+    void shouldNotProvideRejectedRowsReportWhenItWasNotRequested() throws Exception {
+        Path file = Files.createTempFile("import-job-test", ".csv");
+        when(appUserService.importAppUsers(any(InputStream.class), eq(CompressionType.NONE), any(ImportProgress.class), any(RejectedRowReport.class))).thenReturn(new ImportProgress().toSummary());
+
+        ImportJob submitted = importJobService.submit(file);
+        queuedTasks.get(0).run();
+
+        assertEquals(Optional.empty(), importJobService.getRejectedRowsReport(submitted.getId()));
+        assertEquals(Optional.empty(), importJobService.getRejectedRowsReport("missing-job-id"));
+    }
+
+    @Test
+    void submitMethodShouldThrowExceptionWhenFileIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> importJobService.submit(null));
+        assertEquals("File cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void getJobMethodShouldThrowExceptionWhenIdIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> importJobService.getJob(null));
+        assertEquals("Id cannot be null", exception.getMessage());
+    }
+}